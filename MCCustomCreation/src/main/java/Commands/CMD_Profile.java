@@ -0,0 +1,78 @@
+package Commands;
+
+import Nodes.Execution.ExecutionScheduler;
+import Nodes.Execution.Profiling.ExecutionProfiler;
+import Nodes.Execution.ResultCache;
+import Utility.Logging.Diagnostics;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+import me.ODINN.MCCustomCreation.CreationsSaveService;
+import me.ODINN.MCCustomCreation.Main;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CMD_Profile extends CustomCommand{
+
+    /**
+     * the amount of events shown in the chat, the profile file holds all of them
+     */
+    private static final int SHOWN_EVENTS = 5;
+
+    public CMD_Profile() {
+        super("Profile", Arrays.asList("Shows which creations take the most time to execute.","Use on/off to toggle profiling, reset to clear it and dump to write the profile file."), "Profile", 0, 1, Arrays.asList("Profile","Profiler"), Arrays.asList("Profile","Profile [on/off/reset/dump]"));
+    }
+
+    @Override
+    boolean onCommand(Player sender, List<String> args) {
+        ExecutionProfiler profiler = ExecutionProfiler.INSTANCE;
+        if(args.isEmpty()) {
+            for (String line : profiler.report(SHOWN_EVENTS))
+                Logging.message(sender, line, LoggingOptions.INFO);
+            CreationsSaveService saves = Main.getSaveService();
+            if(saves != null)
+                Logging.message(sender, "Saves: " + saves.getSaveCount() + " written, " + saves.getFailedCount() + " failed, " + saves.getQueueDepth()
+                        + " queued, latency last " + saves.getLastLatency() + "ms, avg " + saves.getAverageLatency() + "ms, max " + saves.getMaxLatency() + "ms", LoggingOptions.INFO);
+            Logging.message(sender, "Deferred executions: " + ExecutionScheduler.INSTANCE.getDeferredCount() + " queued, "
+                    + ExecutionScheduler.INSTANCE.getDroppedCount() + " dropped", LoggingOptions.INFO);
+            ResultCache cache = ResultCache.INSTANCE;
+            Logging.message(sender, "Parameter cache: " + cache.getSize() + " cached, " + cache.getHits() + " hits, " + cache.getMisses()
+                    + " misses, " + cache.getEvictions() + " evicted", LoggingOptions.INFO);
+            Logging.message(sender, "Diagnostics: " + Diagnostics.INSTANCE.getReportedCount() + " reported, " + Diagnostics.INSTANCE.getSuppressedCount() + " suppressed", LoggingOptions.INFO);
+            return true;
+        }
+
+        switch (args.get(0).toLowerCase()) {
+            case "on":
+                profiler.setEnabled(true);
+                Logging.message(sender, "Profiling enabled.", LoggingOptions.INFO);
+                break;
+            case "off":
+                profiler.setEnabled(false);
+                Logging.message(sender, "Profiling disabled.", LoggingOptions.INFO);
+                break;
+            case "reset":
+                profiler.reset();
+                Logging.message(sender, "The profile was reset.", LoggingOptions.INFO);
+                break;
+            case "dump":
+                File file = new File(Main.getInstance().getDataFolder(), Main.PROFILE_FILE);
+                profiler.dump(file);
+                Logging.message(sender, "The profile was written to " + file.getName() + ".", LoggingOptions.INFO);
+                break;
+            default:
+                Logging.message(sender, "Wrong usage, usages: " + getUsages(), LoggingOptions.ERROR);
+        }
+        return true;
+    }
+
+    @Override
+    List<String> getCompletions(int argumentIndex, Player player) {
+        if(argumentIndex == 0)
+            return Arrays.asList("on", "off", "reset", "dump");
+        return new ArrayList<>();
+    }
+}
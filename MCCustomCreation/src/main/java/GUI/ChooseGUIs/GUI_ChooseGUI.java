@@ -10,7 +10,6 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * A node choosing GUI
@@ -34,18 +33,7 @@ public class GUI_ChooseGUI extends ListableGUI implements IReturnable {
      * @param currentTree a given current tree
      */
     public GUI_ChooseGUI(Class returnType , FunctionTree currentTree) {
-        this(Stream.concat( // make 1 big list out of all primitives and parameters which their return type matches the given one
-                NodesHandler.INSTANCE.getPrimitiveMap().values()
-                        .stream()
-                        .filter(p -> returnType.isAssignableFrom(p.getReturnType()))
-
-                ,NodesHandler.INSTANCE.getParameterMap().values()
-                        .stream()
-                        .filter(p -> returnType.isAssignableFrom(p.getReturnType())))
-                            .collect(Collectors.toList())
-                ,currentTree,"Choose A "+returnType.getSimpleName());
-
-
+        this(NodesHandler.INSTANCE.getCandidates(returnType),currentTree,"Choose A "+returnType.getSimpleName());
     }
 
 
@@ -55,8 +43,8 @@ public class GUI_ChooseGUI extends ListableGUI implements IReturnable {
      * @param currentTree a given current function tree
      * @param name a given name
      */
-    public GUI_ChooseGUI(List<INode> nodes, FunctionTree currentTree, String name){
-        super(nodes.stream().map(n -> n.getItemReference().getItemStack()).collect(Collectors.toList()),name);
+    public GUI_ChooseGUI(List<? extends INode> nodes, FunctionTree currentTree, String name){
+        super(nodes.stream().map(NodesHandler.INSTANCE::getNodeItem).collect(Collectors.toList()),name);
         this.currentTree = currentTree;
     }
 
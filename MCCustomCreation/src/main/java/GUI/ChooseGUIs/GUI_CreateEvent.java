@@ -9,6 +9,7 @@ import Nodes.Events.IEvent;
 import Nodes.FunctionTree;
 import Nodes.NodeItemStack;
 import Nodes.NodesHandler;
+import me.ODINN.MCCustomCreation.Main;
 import org.bukkit.Material;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
@@ -36,6 +37,11 @@ public class GUI_CreateEvent extends ListableGUI implements IChainable {
      * The creation to create events for
      */
     private String creation;
+
+    /**
+     * if the gui stopped editing the creation
+     */
+    private boolean released;
     /**
      *
      * @param events a given current state* map
@@ -43,20 +49,39 @@ public class GUI_CreateEvent extends ListableGUI implements IChainable {
     public GUI_CreateEvent(Map<IEvent,List<FunctionTree>> events, String creation) {
         super(new ArrayList<>(NodesHandler.INSTANCE.getEvents().values()
                 .stream()
-                .map(event -> event.getItemReference().getItemStack())
+                .map(NodesHandler.INSTANCE::getNodeItem)
                 .collect(Collectors.toList())),"Edit Events for creation "+creation,7,0);
         if(events == null)
             events = new HashMap<>();
         this.events = events;
         this.creation = creation;
+        Main.getCreationsManager().pin(creation);
     }
 
 
     @Override
     public void onClosing() {
+        if(getHandler() == null) // closed without opening any other gui, so nothing was edited
+            release();
         IChainable.super.onClosing();
     }
 
+    @Override
+    public void onChainEnd() {
+        Main.getCreationsManager().onCreationEdited(this.creation);
+        release();
+    }
+
+    /**
+     * stops editing the creation, so it can be unloaded again
+     */
+    private void release(){
+        if(released)
+            return;
+        released = true;
+        Main.getCreationsManager().unpin(this.creation);
+    }
+
     @Override
     protected void onClick(InventoryClickEvent event){
 
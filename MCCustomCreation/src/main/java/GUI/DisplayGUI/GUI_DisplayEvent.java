@@ -111,7 +111,7 @@ public class GUI_DisplayEvent extends ListableGUI implements IReturnable {
     private static List<ItemStack> getActionsAsItemStacks(List<FunctionTree> actions){
         return actions.stream()
                 .filter(obj -> (obj != null && obj.getCurrent() instanceof IAction))
-                .map(action -> ((IAction)action.getCurrent()).getItemReference().getItemStack())
+                .map(action -> NodesHandler.INSTANCE.getNodeItem((IAction) action.getCurrent()))
                 .collect(Collectors.toList());
     }
 
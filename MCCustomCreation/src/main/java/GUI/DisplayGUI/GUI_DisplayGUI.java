@@ -10,6 +10,7 @@ import Nodes.FunctionTree;
 import Nodes.INode;
 import Nodes.IReceiveAbleNode;
 import Nodes.IReturningNode;
+import Nodes.NodesHandler;
 import Utility.ItemStackUtil;
 import Utility.Logging.Logging;
 import Utility.Logging.LoggingOptions;
@@ -114,7 +115,7 @@ public class GUI_DisplayGUI extends AGUI implements IReturnable {
             Logging.log("Maximum amount of function primitives is 45! used 45 out of chosen primitives. also, good luck crushing your game.", LoggingOptions.ERROR);
             val.size -= 9;
         }
-        Inventory inv = Bukkit.createInventory(null,val.size + 9,this.node.getItemReference().getDisplay());
+        Inventory inv = Bukkit.createInventory(null,val.size + 9,NodesHandler.INSTANCE.getItemTemplate(this.node).getDisplay());
 
         for (int i = 0; i < inv.getSize(); i++)
             inv.setItem(i,getDefaultBlankItem());
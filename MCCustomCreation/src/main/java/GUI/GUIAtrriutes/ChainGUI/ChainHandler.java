@@ -87,11 +87,13 @@ public class ChainHandler {
     }
 
     /**
-     * removes the handler of the given player
+     * removes the handler of the given player, ending its chain
      * @param id a given player's id
      */
     public static void remove(UUID id){
-        handlers.remove(id);
+        ChainHandler handler = handlers.remove(id);
+        if(handler != null && handler.getFather() != null)
+            handler.getFather().onChainEnd();
     }
 
     /**
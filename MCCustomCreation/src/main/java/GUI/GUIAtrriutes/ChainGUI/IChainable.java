@@ -56,6 +56,11 @@ public interface IChainable {
           return ChainHandler.getHandler(getCurrentGUI().getOwner().getUniqueId());
      }
 
+    /**
+     * handles the end of a chain which this chainable gui is the father of
+     */
+    default void onChainEnd(){}
+
     /**
      * handles a close of the chainable gui, this is an override for GUI onClose function
      */
@@ -30,7 +30,9 @@ import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 public enum DefaultActions implements IAction, NodeEnum, IDuplicableAction {
 
@@ -1181,6 +1183,15 @@ public enum DefaultActions implements IAction, NodeEnum, IDuplicableAction {
     },
     ;
 
+    /**
+     * the actions which change nothing the parameters read, they only send messages, sounds, particles or client side changes
+     */
+    private static final Set<DefaultActions> NOT_MUTATING = EnumSet.of(
+            BROADCAST_MESSAGE, SEND_MESSAGE_TO_ENTITY, SEND_TITLE_TO_PLAYER, RESET_PLAYER_TITLE,
+            CHANGE_SIGN_FOR_PLAYER, DAMAGE_BLOCK_AS_PLAYER, SHOW_DEMO_SCREEN_TO_PLAYER,
+            PLAY_EFFECT_AT_LOCATION, PLAY_EFFECT_ON_ENTITY, PLAY_SOUND_AT_LOCATION, PLAY_SOUND_TO_PLAYER,
+            STOP_ALL_SOUNDS_FOR_PLAYER, STOP_SOUND_FOR_PLAYER, SPAWN_PARTICLE_AT_LOCATION, SPAWN_PARTICLE_FOR_PLAYER
+    );
 
     /**
      *
@@ -1247,12 +1258,18 @@ public enum DefaultActions implements IAction, NodeEnum, IDuplicableAction {
     }
 
 
+    @Override
+    public boolean isMutating() {
+        return !NOT_MUTATING.contains(this);
+    }
+
     @Override
     public NodeItemStack getItemReference() {
         if (this.item == null)
             return new NodeItemStack(mat == null || mat.equals(Material.AIR) ? DEFAULT_ACTION_MATERIAL : mat, DEFAULT_NAME_COLOR + getKeyAsDisplay(), null, 1, this);
         else {
-            //making sure default things are set
+            //making sure default things are set, on a copy so the color is not added again on every call
+            ItemStack item = this.item.clone();
             ItemMeta meta = item.getItemMeta();
             meta.setDisplayName(DEFAULT_NAME_COLOR + meta.getDisplayName());
             item.setItemMeta(meta);
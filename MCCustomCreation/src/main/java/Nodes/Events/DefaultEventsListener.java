@@ -0,0 +1,204 @@
+package Nodes.Events;
+
+import me.ODINN.MCCustomCreation.CreationsUtil;
+import org.bukkit.Material;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.enchantment.EnchantItemEvent;
+import org.bukkit.event.entity.*;
+import org.bukkit.event.player.*;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static Nodes.Events.DefaultEvents.*;
+
+/**
+ * The listener of the default events, every listened event class has a single handler
+ * which resolves the item and its creation once and executes the matching default events
+ */
+public class DefaultEventsListener implements Listener {
+
+    /**
+     * Singleton implementation
+     */
+    public static final DefaultEventsListener INSTANCE = new DefaultEventsListener();
+
+    /**
+     * the interact events of each action, the first array is for not sneaking players and the second for sneaking players
+     */
+    private final Map<Action, DefaultEvents[][]> interactEvents;
+
+    /**
+     * the interact at entity events of not sneaking players
+     */
+    private static final DefaultEvents[] ENTITY_EVENTS = {RIGHT_CLICK_ENTITY};
+
+    /**
+     * the interact at entity events of sneaking players
+     */
+    private static final DefaultEvents[] SNEAKING_ENTITY_EVENTS = {RIGHT_CLICK_ENTITY, SHIFT_RIGHT_CLICK_ENTITY};
+
+    /**
+     * Singleton implementation
+     */
+    private DefaultEventsListener(){
+        this.interactEvents = new EnumMap<>(Action.class);
+        interactEvents.put(Action.LEFT_CLICK_AIR, new DefaultEvents[][]{{LEFT_CLICK_AIR}, {LEFT_CLICK_AIR, SHIFT_LEFT_CLICK_AIR}});
+        interactEvents.put(Action.LEFT_CLICK_BLOCK, new DefaultEvents[][]{{LEFT_CLICK_BLOCK}, {LEFT_CLICK_BLOCK, SHIFT_LEFT_CLICK_BLOCK}});
+        interactEvents.put(Action.RIGHT_CLICK_AIR, new DefaultEvents[][]{{RIGHT_CLICK_AIR}, {RIGHT_CLICK_AIR, SHIFT_RIGHT_CLICK_AIR}});
+        interactEvents.put(Action.RIGHT_CLICK_BLOCK, new DefaultEvents[][]{{RIGHT_CLICK_BLOCK}, {RIGHT_CLICK_BLOCK, SHIFT_RIGHT_CLICK_BLOCK}});
+    }
+
+    /**
+     *
+     * @param item a given item
+     * @return the creation of the given item, null if the item is not a creation
+     */
+    private static String getCreation(ItemStack item){
+        if (item == null || item.getType().equals(Material.AIR))
+            return null;
+        return CreationsUtil.getCreationFromItem(item);
+    }
+
+    /**
+     * executes the given event if the given item is a creation
+     * @param item a given item
+     * @param executor a given executor entity
+     * @param listenedEvent the listened event
+     * @param event the event to execute
+     */
+    private static void execute(ItemStack item, LivingEntity executor, Event listenedEvent, DefaultEvents event){
+        String creation = getCreation(item);
+        if (creation != null)
+            event.executeEvent(creation, item, executor, listenedEvent);
+    }
+
+    /**
+     * executes the given events in order if the given item is a creation
+     * @param item a given item
+     * @param executor a given executor entity
+     * @param listenedEvent the listened event
+     * @param events the events to execute
+     */
+    private static void execute(ItemStack item, LivingEntity executor, Event listenedEvent, DefaultEvents[] events){
+        String creation = getCreation(item);
+        if (creation != null)
+            for (DefaultEvents event : events)
+                event.executeEvent(creation, item, executor, listenedEvent);
+    }
+
+    /**
+     *
+     * @param player a given player
+     * @param hand a given hand
+     * @return the item in the given hand of the given player
+     */
+    private static ItemStack getItemInHand(Player player, EquipmentSlot hand){
+        if (hand == null)
+            return null;
+        if (hand.equals(EquipmentSlot.HAND))
+            return player.getInventory().getItemInMainHand();
+        if (hand.equals(EquipmentSlot.OFF_HAND))
+            return player.getInventory().getItemInOffHand();
+        return null;
+    }
+
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        CreationsUtil.migrate(event.getPlayer().getInventory()); // the items of older versions are migrated once their player joins
+    }
+
+    @EventHandler
+    public void onHeldItemChanged(PlayerItemHeldEvent event) {
+        CreationsUtil.migrate(event.getPlayer().getInventory(), event.getNewSlot());
+        execute(event.getPlayer().getInventory().getItem(event.getPreviousSlot()), event.getPlayer(), event, CHANGED_HELD_ITEM_FROM_ITEM);
+        execute(event.getPlayer().getInventory().getItem(event.getNewSlot()), event.getPlayer(), event, CHANGED_HELD_ITEM_TO_ITEM);
+    }
+
+    @EventHandler
+    public void onDamage(EntityDamageByEntityEvent event) {
+        if (event.getDamager() instanceof LivingEntity) {
+            LivingEntity damager = (LivingEntity) event.getDamager();
+            execute(damager.getEquipment().getItemInMainHand(), damager, event, DAMAGE_ENTITY);
+        }
+    }
+
+    @EventHandler
+    public void onEnchant(EnchantItemEvent event) {
+        execute(event.getItem(), event.getEnchanter(), event, ENCHANT_ITEM);
+    }
+
+    @EventHandler
+    public void onEntityDropItem(EntityDropItemEvent event) {
+        if (event.getEntity() instanceof LivingEntity)
+            execute(event.getItemDrop().getItemStack(), (LivingEntity) event.getEntity(), event, ENTITY_DROP_ITEM);
+    }
+
+    @EventHandler
+    public void onEntityPickupItem(EntityPickupItemEvent event) {
+        execute(event.getItem().getItemStack(), event.getEntity(), event, ENTITY_PICKUP_ITEM);
+    }
+
+    @EventHandler
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        execute(event.getBrokenItem(), event.getPlayer(), event, ITEM_BREAK);
+    }
+
+    @EventHandler
+    public void onItemConsume(PlayerItemConsumeEvent event) {
+        execute(event.getItem(), event.getPlayer(), event, ITEM_CONSUME);
+    }
+
+    @EventHandler
+    public void onItemDamage(PlayerItemDamageEvent event) {
+        execute(event.getItem(), event.getPlayer(), event, ITEM_DAMAGE);
+    }
+
+    @EventHandler
+    public void onDespawn(ItemDespawnEvent event) {
+        execute(event.getEntity().getItemStack(), null, event, ITEM_DESPAWN);
+    }
+
+    @EventHandler
+    public void onItemMend(PlayerItemMendEvent event) {
+        execute(event.getItem(), event.getPlayer(), event, ITEM_MEND);
+    }
+
+    @EventHandler
+    public void onSpawn(ItemSpawnEvent event) {
+        execute(event.getEntity().getItemStack(), null, event, ITEM_SPAWN);
+    }
+
+    @EventHandler
+    public void onPlayerDropItem(PlayerDropItemEvent event) {
+        execute(event.getItemDrop().getItemStack(), event.getPlayer(), event, PLAYER_DROP_ITEM);
+    }
+
+    @EventHandler
+    public void onInteract(PlayerInteractEvent event) {
+        DefaultEvents[][] events = interactEvents.get(event.getAction());
+        if (events == null)
+            return;
+
+        execute(getItemInHand(event.getPlayer(), event.getHand()), event.getPlayer(), event, events[event.getPlayer().isSneaking() ? 1 : 0]);
+    }
+
+    @EventHandler
+    public void onInteractAtEntity(PlayerInteractAtEntityEvent event) {
+        ItemStack item = event.getHand().equals(EquipmentSlot.HAND) ? event.getPlayer().getInventory().getItemInMainHand() : event.getPlayer().getInventory().getItemInOffHand();
+        execute(item, event.getPlayer(), event, event.getPlayer().isSneaking() ? SNEAKING_ENTITY_EVENTS : ENTITY_EVENTS);
+    }
+
+    @EventHandler
+    public void onSwapItem(PlayerSwapHandItemsEvent event) {
+        execute(event.getOffHandItem(), event.getPlayer(), event, SWAP_ITEM_TO_MAIN_HAND);
+        execute(event.getMainHandItem(), event.getPlayer(), event, SWAP_ITEM_TO_OFF_HAND);
+    }
+}
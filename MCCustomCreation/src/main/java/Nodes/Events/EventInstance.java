@@ -1,16 +1,13 @@
 package Nodes.Events;
 
 import Nodes.NodeItemStack;
-import me.ODINN.MCCustomCreation.Main;
-import org.bukkit.Bukkit;
-import org.bukkit.event.Cancellable;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
 import java.io.Serializable;
 
 /**
  * this class is an instance for event nodes. it wraps the IEvent node and holds values about it.
+ * the instance is not a registered listener, its cancellation is applied through the creation's dispatch entry
  */
 public class EventInstance implements Serializable, IEvent , Cloneable, Listener {
 
@@ -39,7 +36,6 @@ public class EventInstance implements Serializable, IEvent , Cloneable, Listener
         this.event = event;
         this.cancelled = cancelled;
         this.creation = creation;
-        Bukkit.getPluginManager().registerEvents(this, Main.getInstance());
     }
 
     /**
@@ -80,10 +76,11 @@ public class EventInstance implements Serializable, IEvent , Cloneable, Listener
         return new EventInstance(this.event,this.cancelled,this.creation);
     }
 
-    @EventHandler
-    public void onNodeExecution(NodeExecutionEvent event){
-        if(event.getEvent().equals(this.event) && event.getCreation().equalsIgnoreCase(this.creation))
-            if (event.getListenedEvent() instanceof Cancellable)
-                ((Cancellable) event.getListenedEvent()).setCancelled(cancelled);
+    public IEvent getEvent() {
+        return event;
+    }
+
+    public String getCreation() {
+        return creation;
     }
 }
@@ -1,10 +1,10 @@
 package Nodes.Events;
 
-import Nodes.FunctionTree;
+import Nodes.Execution.DispatchEntry;
+import Nodes.Execution.ExecutionScheduler;
+import Nodes.Execution.Profiling.ExecutionProfiler;
 import Nodes.INode;
 import Nodes.NodeItemStack;
-import Utility.Logging.Logging;
-import Utility.Logging.LoggingOptions;
 import me.ODINN.MCCustomCreation.CreationsUtil;
 import me.ODINN.MCCustomCreation.Main;
 import org.bukkit.Bukkit;
@@ -15,9 +15,6 @@ import org.bukkit.event.Event;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.List;
-import java.util.Locale;
-
 /**
  * An interface for event nodes
  */
@@ -38,13 +35,7 @@ public interface IEvent extends INode, Listener {
      * @return the default node item of this event
      */
     default NodeItemStack getDefaultNodeItem(){
-        String display = getKey().toLowerCase(Locale.ROOT);
-        String[] arr = display.split("_");
-        display = "";
-        for (String s : arr)
-            display += s.substring(0,1).toUpperCase() + s.substring(1) +" ";
-
-        return new NodeItemStack(DEFAULT_EVENT_MATERIAL,DEFAULT_NAME_COLOR+display,null,1,this);
+        return new NodeItemStack(DEFAULT_EVENT_MATERIAL,DEFAULT_NAME_COLOR+getKeyAsDisplay(),null,1,this);
     }
 
     /**
@@ -53,23 +44,30 @@ public interface IEvent extends INode, Listener {
      * @param executor a given executor entity
      */
     default void executeEvent(ItemStack item, LivingEntity executor, Event listenedEvent){
-        if(CreationsUtil.isCreation(item)){
-            String creationName = CreationsUtil.getCreationFromItem(item);
-            if(!Main.getCreationsManager().isValid(creationName)) {
-                Logging.log("Tried to execute a creation which is not valid. creation: "+creationName, LoggingOptions.ERROR);
-                return;
-            }
-            List<FunctionTree> events = Main.getCreationsManager().getEventFromCreation(creationName,this);
-            if(events != null)
-            {
-                NodeExecutionEvent event = new NodeExecutionEvent(this,listenedEvent,creationName);
-                Bukkit.getPluginManager().callEvent(event);
-                if(!event.isCancelled())
-                for (FunctionTree functionTree : events) // execute all actions!
-                        FunctionTree.executeFunction(functionTree,executor,item);
-            }
+        String creationName = CreationsUtil.getCreationFromItem(item);
+        if(creationName != null)
+            executeEvent(creationName,item,executor,listenedEvent);
+    }
+
+    /**
+     * executes the event of the given creation
+     * @param creationName the creation of the given item
+     * @param item a given item
+     * @param executor a given executor entity
+     */
+    default void executeEvent(String creationName, ItemStack item, LivingEntity executor, Event listenedEvent){
+        DispatchEntry entry = Main.getCreationsManager().getDispatchEntry(creationName,getKey());
+        if(entry == null)
+            return;
 
+        entry.applyCancellation(listenedEvent);
+        if(NodeExecutionEvent.getHandlerList().getRegisteredListeners().length != 0) { // only other plugins listen to it
+            NodeExecutionEvent event = new NodeExecutionEvent(this,listenedEvent,creationName);
+            Bukkit.getPluginManager().callEvent(event);
+            if(event.isCancelled())
+                return;
         }
+        ExecutionScheduler.INSTANCE.execute(creationName,entry,executor,item,ExecutionProfiler.INSTANCE.getProfile(creationName,getKey()));
     }
 
 }
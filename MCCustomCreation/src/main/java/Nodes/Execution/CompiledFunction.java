@@ -0,0 +1,219 @@
+package Nodes.Execution;
+
+import Nodes.FunctionTree;
+import Nodes.IAction;
+import Nodes.INode;
+import Nodes.IParameter;
+import Nodes.IPrimitive;
+import Nodes.IReceiveAbleNode;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+
+/**
+ * A function tree compiled into a flat array of instructions in post order,
+ * so executing it does not walk the tree nor resolve the nodes again
+ */
+public final class CompiledFunction {
+
+    /**
+     * the function's instructions, in execution order
+     */
+    private final Instruction[] instructions;
+
+    /**
+     * the max amount of values on the stack at once
+     */
+    private final int maxStackSize;
+
+    /**
+     * the max amount of arguments passed to a node at once
+     */
+    private final int maxArity;
+
+    /**
+     * the tree this function was compiled from
+     */
+    private final FunctionTree source;
+
+    /**
+     * the key of the function's root node, null if unknown
+     */
+    private final String rootKey;
+
+    /**
+     * the amount of slots of the event's shared subtrees, the same for all the event's functions
+     */
+    private final int slotCount;
+
+    /**
+     *
+     * @param instructions the function's instructions
+     * @param maxStackSize the max amount of values on the stack at once
+     * @param maxArity the max amount of arguments passed to a node at once
+     * @param source the tree this function was compiled from
+     */
+    public CompiledFunction(Instruction[] instructions, int maxStackSize, int maxArity, FunctionTree source) {
+        this(instructions, maxStackSize, maxArity, source, 0);
+    }
+
+    /**
+     *
+     * @param instructions the function's instructions
+     * @param maxStackSize the max amount of values on the stack at once
+     * @param maxArity the max amount of arguments passed to a node at once
+     * @param source the tree this function was compiled from
+     * @param slotCount the amount of slots of the event's shared subtrees
+     */
+    public CompiledFunction(Instruction[] instructions, int maxStackSize, int maxArity, FunctionTree source, int slotCount) {
+        this.slotCount = slotCount;
+        this.instructions = instructions;
+        this.maxStackSize = maxStackSize;
+        this.maxArity = maxArity;
+        this.source = source;
+        this.rootKey = source != null && source.getCurrent() instanceof INode ? ((INode) source.getCurrent()).getKey() : null;
+    }
+
+    /**
+     * executes the function
+     * @param executor the executor of the function
+     * @param item the function's item executed on
+     * @return the value of the function's root node, null if it was not executed
+     */
+    public Object execute(LivingEntity executor, ItemStack item){
+        return execute(executor, item, null);
+    }
+
+    /**
+     * executes the function
+     * @param executor the executor of the function
+     * @param item the function's item executed on
+     * @param slots the values of the event execution's shared subtrees, null to execute the shared subtrees every time
+     * @return the value of the function's root node, null if it was not executed
+     */
+    public Object execute(LivingEntity executor, ItemStack item, SlotTable slots){
+        ExecutionStack stack = ExecutionStack.current();
+        ExecutionStack.Frame frame = stack.push(maxStackSize, maxArity);
+        try {
+            Object[] values = frame.getValues();
+            int top = 0;
+            for (int i = 0; i < instructions.length; i++) {
+                Instruction instruction = instructions[i];
+                switch (instruction.getOpCode()) {
+                    case CONSTANT:
+                        values[top++] = instruction.getConstant();
+                        break;
+                    case FOLDED:
+                        values[top++] = FunctionCompiler.copy(instruction.getConstant());
+                        break;
+                    case PRIMITIVE:
+                        values[top++] = ((IPrimitive) instruction.getNode()).getValue(executor, item);
+                        break;
+                    case SHARED:
+                        if(slots != null && slots.isValid(instruction.getSlot())) {
+                            values[top++] = FunctionCompiler.copy(slots.get(instruction.getSlot()));
+                            i += instruction.getSkip();
+                        }
+                        break;
+                    case STORE:
+                        if(slots != null) {
+                            slots.set(instruction.getSlot(), values[top - 1]);
+                            values[top - 1] = FunctionCompiler.copy(values[top - 1]);
+                        }
+                        break;
+                    case NUMERIC:
+                        int operands = instruction.getArity();
+                        top -= operands;
+                        Object[] numbers = frame.getArguments(operands);
+                        System.arraycopy(values, top, numbers, 0, operands);
+                        values[top++] = evaluate(instruction, numbers, stack);
+                        break;
+                    default:
+                        int arity = instruction.getArity();
+                        top -= arity;
+                        Object[] args = frame.getArguments(arity);
+                        System.arraycopy(values, top, args, 0, arity);
+                        values[top++] = invoke(instruction, args, stack);
+                        if(slots != null && instruction.getOpCode() == OpCode.ACTION && ((IAction) instruction.getNode()).isMutating())
+                            slots.invalidate();
+                }
+            }
+            return top == 0 ? null : values[top - 1];
+        } finally {
+            stack.pop(frame);
+        }
+    }
+
+    /**
+     * invokes the node of the given instruction
+     * @param instruction a given parameter or action instruction
+     * @param args the node's arguments
+     * @param stack the stack of the current thread, failed checks are counted on it
+     * @return the node's result, null if the arguments are not valid
+     */
+    private static Object invoke(Instruction instruction, Object[] args, ExecutionStack stack){
+        IReceiveAbleNode node = (IReceiveAbleNode) instruction.getNode();
+        try {
+            if(!(instruction.isTypeChecked() ? node.checkPresent(args) : node.checkParameters(args))) {
+                stack.checkFailed();
+                return null;
+            }
+            if (instruction.getOpCode() == OpCode.ACTION)
+                return ((IAction) node).action(args);
+            return ResultCache.INSTANCE.get((IParameter) node, args);
+        } catch (ClassCastException e) {
+            // a type checked node receives a value not matching its received types only when a node returned a value
+            // which does not match its return type, any other cast failure is a bug of the node itself
+            if(!instruction.isTypeChecked() || node.checkParameters(args))
+                throw e;
+            stack.checkFailed();
+            return null;
+        } finally {
+            Arrays.fill(args, null);
+        }
+    }
+
+    /**
+     * computes the value of the numeric chain of the given instruction
+     * @param instruction a given numeric instruction
+     * @param args the chain's received values
+     * @param stack the stack of the current thread, failed checks are counted on it
+     * @return the chain's value, null if the received values are not valid
+     */
+    private static Object evaluate(Instruction instruction, Object[] args, ExecutionStack stack){
+        try {
+            Object value = ((NumericExpression) instruction.getConstant()).evaluate(args);
+            if(value == null)
+                stack.checkFailed();
+            return value;
+        } finally {
+            Arrays.fill(args, null);
+        }
+    }
+
+    public Instruction[] getInstructions() {
+        return instructions;
+    }
+
+    public int getMaxStackSize() {
+        return maxStackSize;
+    }
+
+    public FunctionTree getSource() {
+        return source;
+    }
+
+    public String getRootKey() {
+        return rootKey;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(instructions);
+    }
+}
@@ -0,0 +1,145 @@
+package Nodes.Execution;
+
+import Nodes.Events.EventInstance;
+import Nodes.Events.IEvent;
+import Nodes.Execution.Profiling.EventProfile;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The validated and compiled functions of a single event of a creation
+ */
+public final class DispatchEntry {
+
+    /**
+     * The creation's event node
+     */
+    private final IEvent event;
+
+    /**
+     * If the listened event should be cancelled when the event is executed
+     */
+    private final boolean cancelled;
+
+    /**
+     * The event's compiled functions, in execution order
+     */
+    private final CompiledFunction[] functions;
+
+    /**
+     * The amount of slots of the functions' shared subtrees
+     */
+    private final int slotCount;
+
+    /**
+     *
+     * @param event the creation's event node
+     * @param cancelled if the listened event should be cancelled
+     * @param functions the event's compiled functions
+     */
+    public DispatchEntry(IEvent event, boolean cancelled, CompiledFunction[] functions) {
+        this.event = event;
+        this.cancelled = cancelled;
+        this.functions = functions;
+        int slotCount = 0;
+        for (CompiledFunction function : functions)
+            slotCount = Math.max(slotCount, function.getSlotCount());
+        this.slotCount = slotCount;
+    }
+
+    /**
+     *
+     * @return a new table for the values of the functions' shared subtrees, null if the functions share no subtrees
+     */
+    private SlotTable newSlots(){
+        return slotCount == 0 ? null : new SlotTable(slotCount);
+    }
+
+    /**
+     * applies the entry's cancellation on the given listened event, only event instances hold a cancellation
+     * @param listenedEvent a given listened event
+     */
+    public void applyCancellation(Event listenedEvent){
+        if(event instanceof EventInstance && listenedEvent instanceof Cancellable)
+            ((Cancellable) listenedEvent).setCancelled(cancelled);
+    }
+
+    /**
+     * executes all the functions of the event
+     * @param executor the executor of the functions
+     * @param item the functions' item executed on
+     */
+    public void execute(LivingEntity executor, ItemStack item){
+        SlotTable slots = newSlots();
+        for (CompiledFunction function : functions) // execute all actions!
+            function.execute(executor, item, slots);
+    }
+
+    /**
+     * executes all the functions of the event and records the execution in the given profile.
+     * executions of other creations triggered by the functions are included in the recorded time and failed checks
+     * @param executor the executor of the functions
+     * @param item the functions' item executed on
+     * @param profile the event's profile, null to execute without profiling
+     */
+    public void execute(LivingEntity executor, ItemStack item, EventProfile profile){
+        if(profile == null) {
+            execute(executor, item);
+            return;
+        }
+
+        ExecutionStack stack = ExecutionStack.current();
+        SlotTable slots = newSlots();
+        long failed = stack.getFailedChecks();
+        long start = System.nanoTime();
+        for (CompiledFunction function : functions) {
+            long functionStart = System.nanoTime();
+            function.execute(executor, item, slots);
+            profile.recordAction(function.getRootKey(), System.nanoTime() - functionStart);
+        }
+        profile.record(System.nanoTime() - start, stack.getFailedChecks() - failed);
+    }
+
+    /**
+     * executes the functions of the event from the given one until the given deadline passes, at least one function is executed
+     * @param from the index of the first function to execute
+     * @param executor the executor of the functions
+     * @param item the functions' item executed on
+     * @param profile the event's profile, null to execute without profiling
+     * @param deadline the System.nanoTime after which no more functions are executed
+     * @return the index of the first function which was not executed, the amount of functions if all were executed
+     */
+    public int execute(int from, LivingEntity executor, ItemStack item, EventProfile profile, long deadline){
+        ExecutionStack stack = ExecutionStack.current();
+        SlotTable slots = newSlots(); // deferred functions read the server's state again
+        long failed = stack.getFailedChecks();
+        long start = System.nanoTime();
+        int next = from;
+        while (next < functions.length) {
+            long functionStart = System.nanoTime();
+            functions[next++].execute(executor, item, slots);
+            long functionEnd = System.nanoTime();
+            if(profile != null)
+                profile.recordAction(functions[next - 1].getRootKey(), functionEnd - functionStart);
+            if(functionEnd - deadline >= 0)
+                break;
+        }
+        if(profile != null)
+            profile.record(System.nanoTime() - start, stack.getFailedChecks() - failed, from == 0, next < functions.length);
+        return next;
+    }
+
+    public IEvent getEvent() {
+        return event;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public CompiledFunction[] getFunctions() {
+        return functions;
+    }
+}
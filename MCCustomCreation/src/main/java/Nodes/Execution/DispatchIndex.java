@@ -0,0 +1,104 @@
+package Nodes.Execution;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable index from a creation and an event key to the creation's dispatch entry of that event.
+ * a modified index is a new instance, so it can be published atomically while events are dispatched
+ */
+public final class DispatchIndex {
+
+    /**
+     * An index without creations
+     */
+    public static final DispatchIndex EMPTY = new DispatchIndex(Collections.emptyMap());
+
+    /**
+     * the entries of each creation, by the event key
+     */
+    private final Map<String, Map<String, DispatchEntry>> entries;
+
+    private DispatchIndex(Map<String, Map<String, DispatchEntry>> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @param eventKey a given event key
+     * @return the entry of the given creation's event, null if the creation does not listen to the event
+     */
+    public DispatchEntry get(String creation, String eventKey){
+        Map<String, DispatchEntry> events = entries.get(creation);
+        return events == null ? null : events.get(eventKey);
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @return if the given creation is in the index
+     */
+    public boolean contains(String creation){
+        return entries.containsKey(creation);
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @param events the entries of the given creation, by the event key
+     * @return a new index with the given creation's entries
+     */
+    public DispatchIndex with(String creation, Map<String, DispatchEntry> events){
+        Map<String, Map<String, DispatchEntry>> map = new HashMap<>(entries);
+        map.put(creation, Collections.unmodifiableMap(new HashMap<>(events)));
+        return new DispatchIndex(Collections.unmodifiableMap(map));
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @return a new index without the given creation
+     */
+    public DispatchIndex without(String creation){
+        if(!entries.containsKey(creation))
+            return this;
+        Map<String, Map<String, DispatchEntry>> map = new HashMap<>(entries);
+        map.remove(creation);
+        return new DispatchIndex(Collections.unmodifiableMap(map));
+    }
+
+    /**
+     *
+     * @param creations given creation names
+     * @return a new index without the given creations
+     */
+    public DispatchIndex without(Collection<String> creations){
+        Map<String, Map<String, DispatchEntry>> map = new HashMap<>(entries);
+        if(!map.keySet().removeAll(creations))
+            return this;
+        return new DispatchIndex(Collections.unmodifiableMap(map));
+    }
+
+    /**
+     *
+     * @param creations the entries of each creation, by the event key
+     * @return a new index with the given creations only
+     */
+    public static DispatchIndex of(Map<String, Map<String, DispatchEntry>> creations){
+        Map<String, Map<String, DispatchEntry>> map = new HashMap<>();
+        for (Map.Entry<String, Map<String, DispatchEntry>> entry : creations.entrySet())
+            map.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+        return new DispatchIndex(Collections.unmodifiableMap(map));
+    }
+
+    /**
+     *
+     * @return the amount of creations in the index
+     */
+    public int size(){
+        return entries.size();
+    }
+}
@@ -0,0 +1,228 @@
+package Nodes.Execution;
+
+import Nodes.Execution.Profiling.EventProfile;
+import Nodes.Execution.Profiling.ExecutionProfiler;
+import Utility.Logging.Diagnostics;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+import me.ODINN.MCCustomCreation.CreationsManager;
+import me.ODINN.MCCustomCreation.Main;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the time the creations' functions execute in every tick.
+ * once a tick's budget is used, the remaining functions of an event are deferred and executed on the following ticks,
+ * the oldest deferred executions first and then the ones with the least remaining functions.
+ * the functions of an event are always executed in their order, and the listened event's cancellation is applied before any deferral
+ */
+public class ExecutionScheduler {
+
+    /**
+     * Singleton implementation
+     */
+    public static final ExecutionScheduler INSTANCE = new ExecutionScheduler();
+
+    /**
+     * the execution time of every tick in nanoseconds, 0 or less if the time is not limited
+     */
+    private long budget;
+
+    /**
+     * the max amount of deferred executions, further executions are dropped
+     */
+    private int maxDeferred;
+
+    /**
+     * the execution time used in the current tick in nanoseconds
+     */
+    private long used;
+
+    /**
+     * the current tick since the scheduler started
+     */
+    private long tick;
+
+    /**
+     * the order of the next deferred execution
+     */
+    private long sequence;
+
+    /**
+     * if functions are being executed by the scheduler, executions triggered by them are part of their time
+     */
+    private boolean running;
+
+    /**
+     * the amount of dropped deferred executions, because there were too many or their executor or creation changed
+     */
+    private long dropped;
+
+    /**
+     * the deferred executions
+     */
+    private final PriorityQueue<Deferred> deferred;
+
+    /**
+     * the task which resets the budget and executes deferred executions every tick
+     */
+    private BukkitTask task;
+
+    private ExecutionScheduler(){
+        this.deferred = new PriorityQueue<>(Comparator
+                .comparingLong((Deferred d) -> d.tick)
+                .thenComparingInt(d -> d.entry.getFunctions().length - d.next)
+                .thenComparingLong(d -> d.sequence));
+    }
+
+    /**
+     * starts limiting the execution time of every tick
+     * @param plugin the plugin
+     * @param budgetMillis the execution time of every tick in milliseconds, 0 or less to not limit it
+     * @param maxDeferred the max amount of deferred executions
+     */
+    public void start(Plugin plugin, double budgetMillis, int maxDeferred){
+        stop();
+        this.budget = (long) (budgetMillis * TimeUnit.MILLISECONDS.toNanos(1));
+        this.maxDeferred = maxDeferred;
+        if(budget > 0)
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::onTick, 1, 1);
+    }
+
+    /**
+     * stops limiting the execution time, executions which are still deferred are dropped
+     */
+    public void stop(){
+        if(task != null) {
+            task.cancel();
+            task = null;
+        }
+        if(!deferred.isEmpty())
+            Logging.log("Dropped " + deferred.size() + " deferred creation executions.", LoggingOptions.INFO);
+        deferred.clear();
+        budget = 0;
+    }
+
+    /**
+     * executes the functions of the given entry within the tick's budget, the functions which do not fit are deferred
+     * @param creation the entry's creation
+     * @param entry a given dispatch entry
+     * @param executor the executor of the functions
+     * @param item the functions' item executed on
+     * @param profile the event's profile, null to execute without profiling
+     */
+    public void execute(String creation, DispatchEntry entry, LivingEntity executor, ItemStack item, EventProfile profile){
+        if(budget <= 0 || running || !Bukkit.isPrimaryThread()) {
+            entry.execute(executor, item, profile);
+            return;
+        }
+        if(used >= budget) {
+            defer(creation, entry, 0, executor, item);
+            return;
+        }
+        run(creation, entry, 0, executor, item, profile);
+    }
+
+    /**
+     * executes the functions of the given entry from the given one until the budget is used, the rest is deferred
+     */
+    private void run(String creation, DispatchEntry entry, int from, LivingEntity executor, ItemStack item, EventProfile profile){
+        long start = System.nanoTime();
+        running = true;
+        int next;
+        try {
+            next = entry.execute(from, executor, item, profile, start + (budget - used));
+        } finally {
+            running = false;
+            used += System.nanoTime() - start;
+        }
+        if(next < entry.getFunctions().length)
+            defer(creation, entry, next, executor, item);
+    }
+
+    /**
+     * defers the functions of the given entry from the given one
+     */
+    private void defer(String creation, DispatchEntry entry, int next, LivingEntity executor, ItemStack item){
+        if(deferred.size() >= maxDeferred) {
+            dropped++;
+            Diagnostics.INSTANCE.report("ExecutionScheduler", () -> "Too many deferred creation executions, an execution of " + creation + " was dropped.");
+            return;
+        }
+        deferred.add(new Deferred(creation, entry, next, executor, item, tick, sequence++));
+    }
+
+    /**
+     * resets the budget and executes the deferred executions while the budget lasts,
+     * executions whose executor is no longer valid or whose creation changed are dropped
+     */
+    private void onTick(){
+        tick++;
+        used = 0;
+        Deferred execution;
+        while (used < budget && (execution = deferred.poll()) != null) {
+            String eventKey = execution.entry.getEvent().getKey();
+            if((execution.executor != null && !execution.executor.isValid()) || !isCurrent(execution.creation, eventKey, execution.entry)) {
+                dropped++;
+                continue;
+            }
+            run(execution.creation, execution.entry, execution.next, execution.executor, execution.item,
+                    ExecutionProfiler.INSTANCE.getProfile(execution.creation, eventKey));
+        }
+    }
+
+    /**
+     *
+     * @return if the given entry is still the current entry of the creation's event
+     */
+    private static boolean isCurrent(String creation, String eventKey, DispatchEntry entry){
+        CreationsManager creations = Main.getCreationsManager();
+        return creations == null || creations.isCurrentEntry(creation, eventKey, entry);
+    }
+
+    /**
+     *
+     * @return the amount of deferred executions
+     */
+    public int getDeferredCount(){
+        return deferred.size();
+    }
+
+    /**
+     *
+     * @return the amount of dropped deferred executions
+     */
+    public long getDroppedCount(){
+        return dropped;
+    }
+
+    /**
+     * The functions of an event which are left to execute
+     */
+    private static final class Deferred{
+        private final String creation;
+        private final DispatchEntry entry;
+        private final int next;
+        private final LivingEntity executor;
+        private final ItemStack item;
+        private final long tick;
+        private final long sequence;
+
+        private Deferred(String creation, DispatchEntry entry, int next, LivingEntity executor, ItemStack item, long tick, long sequence) {
+            this.creation = creation;
+            this.entry = entry;
+            this.next = next;
+            this.executor = executor;
+            this.item = item;
+            this.tick = tick;
+            this.sequence = sequence;
+        }
+    }
+}
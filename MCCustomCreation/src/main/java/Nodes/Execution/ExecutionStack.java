@@ -0,0 +1,144 @@
+package Nodes.Execution;
+
+import java.util.Arrays;
+
+/**
+ * A reusable value stack for executing compiled functions.
+ * every thread holds its own stack, and every execution gets its own frame so actions
+ * which trigger other creations while executing do not override the values of the current execution
+ */
+public final class ExecutionStack {
+
+    /**
+     * the stack of each thread
+     */
+    private static final ThreadLocal<ExecutionStack> STACKS = ThreadLocal.withInitial(ExecutionStack::new);
+
+    /**
+     * the stack's frames, a frame is reused by every execution of the same depth
+     */
+    private Frame[] frames;
+
+    /**
+     * the current execution depth
+     */
+    private int depth;
+
+    /**
+     * the amount of failed argument checks on this thread, read before and after an execution to count its failures
+     */
+    private long failedChecks;
+
+    private ExecutionStack(){
+        this.frames = new Frame[4];
+        this.depth = 0;
+    }
+
+    /**
+     *
+     * @return the stack of the current thread
+     */
+    public static ExecutionStack current(){
+        return STACKS.get();
+    }
+
+    /**
+     * enters a new execution
+     * @param size the max amount of values the execution holds at once
+     * @param maxArity the max amount of arguments the execution passes to a node at once
+     * @return the frame of the new execution
+     */
+    public Frame push(int size, int maxArity){
+        if(depth == frames.length)
+            frames = Arrays.copyOf(frames, depth * 2);
+        Frame frame = frames[depth];
+        if(frame == null)
+            frames[depth] = frame = new Frame();
+        depth++;
+        frame.ensureCapacity(size, maxArity);
+        return frame;
+    }
+
+    /**
+     * exits the current execution, the given frame is cleared so no values are kept alive after the execution
+     * @param frame the frame of the current execution
+     */
+    public void pop(Frame frame){
+        frame.clear();
+        depth--;
+    }
+
+    /**
+     * counts a failed argument check
+     */
+    public void checkFailed(){
+        failedChecks++;
+    }
+
+    public long getFailedChecks() {
+        return failedChecks;
+    }
+
+    /**
+     * The values and arguments of a single execution
+     */
+    public static final class Frame {
+
+        /**
+         * the frame's values
+         */
+        private Object[] values = new Object[8];
+
+        /**
+         * the frame's arguments arrays, indexed by their length
+         */
+        private Object[][] arguments = new Object[4][];
+
+        /**
+         * the amount of values used by the current execution
+         */
+        private int used;
+
+        /**
+         * makes sure the frame can hold the given amount of values and arguments
+         * @param size a given amount of values
+         * @param maxArity a given amount of arguments
+         */
+        private void ensureCapacity(int size, int maxArity){
+            if(values.length < size)
+                values = new Object[Math.max(size, values.length * 2)];
+            if(arguments.length <= maxArity)
+                arguments = Arrays.copyOf(arguments, maxArity + 1);
+            used = size;
+        }
+
+        /**
+         *
+         * @return the frame's values
+         */
+        public Object[] getValues() {
+            return values;
+        }
+
+        /**
+         * the returned array is shared by every node called from this frame with the same amount of arguments,
+         * it is cleared once the node returns.
+         * @param arity a given amount of arguments
+         * @return an arguments array with the given length
+         */
+        public Object[] getArguments(int arity){
+            Object[] args = arguments[arity];
+            if(args == null)
+                arguments[arity] = args = new Object[arity];
+            return args;
+        }
+
+        /**
+         * clears the values of the current execution
+         */
+        private void clear(){
+            Arrays.fill(values, 0, used, null);
+            used = 0;
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package Nodes.Execution;
+
+import Nodes.*;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+
+/**
+ * Compiles function trees into compiled functions.
+ * The compiled instructions execute the same way FunctionTree.executeFunction executes the tree,
+ * except pure parameters which receive constants, their values are computed once while compiling,
+ * deterministic subtrees repeated within an event's functions, their values are shared until an action executes,
+ * and chains of numeric parameters, which are computed on unboxed numbers
+ */
+public class FunctionCompiler {
+
+    public static final FunctionCompiler INSTANCE = new FunctionCompiler();
+
+    private FunctionCompiler(){}
+
+    /**
+     *
+     * @param tree a given action tree
+     * @return the given tree compiled, null if the tree is not valid
+     */
+    public CompiledFunction compile(FunctionTree tree){
+        return compile(tree, null);
+    }
+
+    /**
+     * compiles the action trees of a single event, the repeated subtrees of the trees share their values
+     * @param trees the event's action trees, in execution order
+     * @return the given trees compiled, null if any of the trees is not valid
+     */
+    public CompiledFunction[] compile(List<FunctionTree> trees){
+        Subexpressions subexpressions = new Subexpressions(trees);
+        CompiledFunction[] functions = new CompiledFunction[trees.size()];
+        for (int i = 0; i < functions.length; i++) {
+            functions[i] = compile(trees.get(i), subexpressions);
+            if(functions[i] == null)
+                return null;
+        }
+        return functions;
+    }
+
+    /**
+     *
+     * @param tree a given action tree
+     * @param subexpressions the subtrees shared with the tree's other functions, null if none are shared
+     * @return the given tree compiled, null if the tree is not valid
+     */
+    private CompiledFunction compile(FunctionTree tree, Subexpressions subexpressions){
+        if(tree == null || !tree.isValid())
+            return null;
+
+        List<Instruction> instructions = new ArrayList<>();
+        if(!emit(tree, instructions, subexpressions)) {
+            Logging.log("Could not compile the function, a node received less values than it requires. Function: " + tree, LoggingOptions.ERROR);
+            return null;
+        }
+
+        int size = 0, maxSize = 0, maxArity = 0;
+        for (Instruction instruction : instructions) {
+            size += instruction.getStackEffect();
+            maxSize = Math.max(maxSize, size);
+            maxArity = Math.max(maxArity, instruction.getArity());
+        }
+
+        return new CompiledFunction(instructions.toArray(new Instruction[0]), maxSize, maxArity, tree,
+                subexpressions == null ? 0 : subexpressions.getSlotCount());
+    }
+
+    /**
+     * emits the instructions of the given tree in post order, a shared tree is wrapped by its slot's instructions
+     * @param tree a given tree
+     * @param instructions the instructions to emit into
+     * @param subexpressions the shared subtrees, null if none are shared
+     * @return false if the given tree could not be compiled
+     */
+    private boolean emit(FunctionTree tree, List<Instruction> instructions, Subexpressions subexpressions){
+        int slot = subexpressions == null ? -1 : subexpressions.getSlot(tree);
+        if(slot < 0)
+            return emitTree(tree, instructions, subexpressions);
+
+        int header = instructions.size();
+        instructions.add(null);
+        if(!emitTree(tree, instructions, subexpressions))
+            return false;
+
+        OpCode last = instructions.get(instructions.size() - 1).getOpCode();
+        if(instructions.size() == header + 2 && (last == OpCode.CONSTANT || last == OpCode.FOLDED)) {
+            instructions.remove(header); // folded while compiling, nothing to share
+            return true;
+        }
+        INode node = (INode) tree.getCurrent();
+        instructions.add(Instruction.store(node, slot));
+        instructions.set(header, Instruction.shared(node, slot, instructions.size() - header - 1));
+        return true;
+    }
+
+    /**
+     * emits the instructions of the given tree in post order
+     * @param tree a given tree
+     * @param instructions the instructions to emit into
+     * @param subexpressions the shared subtrees, null if none are shared
+     * @return false if the given tree could not be compiled
+     */
+    private boolean emitTree(FunctionTree tree, List<Instruction> instructions, Subexpressions subexpressions){
+        if(tree == null) {
+            instructions.add(new Instruction(OpCode.CONSTANT, null, null, 0));
+            return true;
+        }
+
+        Object current = tree.getCurrent();
+        FunctionTree[] next = tree.getNext();
+
+        if(current instanceof IAction)
+            return emitReceivable((IAction) current, OpCode.ACTION, next, instructions, subexpressions);
+
+        if(next == null || next.length == 0) {
+            if(current instanceof TruePrimitive && isConstant((TruePrimitive) current))
+                instructions.add(new Instruction(OpCode.CONSTANT, null, ((TruePrimitive) current).getValue(), 0));
+            else if(current instanceof IPrimitive)
+                instructions.add(new Instruction(OpCode.PRIMITIVE, (INode) current, null, 0));
+            else instructions.add(new Instruction(OpCode.CONSTANT, null, null, 0));
+            return true;
+        }
+
+        if(isNumericChain(tree))
+            return emitNumeric(tree, instructions, subexpressions);
+
+        if(current instanceof IParameter)
+            return emitReceivable((IParameter) current, OpCode.PARAMETER, next, instructions, subexpressions);
+
+        instructions.add(new Instruction(OpCode.CONSTANT, null, null, 0));
+        return true;
+    }
+
+    /**
+     *
+     * @param tree a given tree
+     * @return if the given tree's root is a numeric parameter which received all its values
+     */
+    private static boolean isNumericChain(FunctionTree tree){
+        return tree != null && NumericExpression.isNumeric(tree.getCurrent()) && tree.getNext() != null
+                && tree.getNext().length >= ((IParameter) tree.getCurrent()).getReceivedTypes().length;
+    }
+
+    /**
+     * emits a single numeric instruction for the chain of numeric parameters at the root of the given tree,
+     * preceded by the instructions of the chain's received values
+     * @param tree a given tree whose root is a numeric parameter
+     * @param instructions the instructions to emit into
+     * @param subexpressions the shared subtrees, null if none are shared
+     * @return false if the given tree could not be compiled
+     */
+    private boolean emitNumeric(FunctionTree tree, List<Instruction> instructions, Subexpressions subexpressions){
+        int first = instructions.size();
+        List<INode> operandNodes = new ArrayList<>();
+        List<Class<?>> operandTypes = new ArrayList<>();
+        NumericExpression expression = numeric(tree, instructions, subexpressions, operandNodes, operandTypes);
+        if(expression == null)
+            return false;
+        if(foldNumeric(expression, first, 0, instructions, operandNodes, operandTypes))
+            return true;
+
+        IParameter root = (IParameter) tree.getCurrent();
+        instructions.add(new Instruction(OpCode.NUMERIC, root, expression.root(operandNodes, operandTypes), operandTypes.size()));
+        return true;
+    }
+
+    /**
+     * builds the expression of the numeric chain at the root of the given tree, emitting the instructions of the chain's received values
+     * @param tree a given tree whose root is a numeric parameter
+     * @param instructions the instructions to emit into
+     * @param subexpressions the shared subtrees, null if none are shared
+     * @param operandNodes the parameters receiving the chain's received values, added to
+     * @param operandTypes the types of the chain's received values, added to
+     * @return the chain's expression, null if the given tree could not be compiled
+     */
+    private NumericExpression numeric(FunctionTree tree, List<Instruction> instructions, Subexpressions subexpressions,
+                                      List<INode> operandNodes, List<Class<?>> operandTypes){
+        IParameter parameter = (IParameter) tree.getCurrent();
+        Class[] receivedTypes = parameter.getReceivedTypes();
+        NumericExpression[] received = new NumericExpression[receivedTypes.length];
+        for (int i = 0; i < receivedTypes.length; i++) {
+            FunctionTree next = tree.getNext()[i];
+            if(isNumericChain(next) && ((IParameter) next.getCurrent()).getReturnType() == receivedTypes[i]
+                    && (subexpressions == null || subexpressions.getSlot(next) < 0)) {
+                int start = instructions.size(), operandStart = operandTypes.size();
+                received[i] = numeric(next, instructions, subexpressions, operandNodes, operandTypes);
+                if(received[i] == null)
+                    return null;
+                if(!foldNumeric(received[i], start, operandStart, instructions, operandNodes, operandTypes))
+                    continue;
+            }
+            else if(!emit(next, instructions, subexpressions))
+                return null;
+
+            // the received value is pushed by the last emitted instruction
+            received[i] = NumericExpression.operand(NumericExpression.NumericType.of(receivedTypes[i]), operandTypes.size());
+            operandNodes.add(parameter);
+            operandTypes.add(receivedTypes[i]);
+        }
+        return NumericExpression.parameter(parameter, received);
+    }
+
+    /**
+     * folds a pure numeric expression whose received values are all constants into a single constant
+     * @param expression a given expression
+     * @param start the index of the expression's first instruction
+     * @param operandStart the index of the expression's first received value within the chain's received values
+     * @param instructions the emitted instructions
+     * @param operandNodes the parameters receiving the chain's received values
+     * @param operandTypes the types of the chain's received values
+     * @return if the expression was folded, its instructions and received values are replaced by the folded constant
+     */
+    private boolean foldNumeric(NumericExpression expression, int start, int operandStart, List<Instruction> instructions,
+                                List<INode> operandNodes, List<Class<?>> operandTypes){
+        int operands = operandTypes.size() - operandStart;
+        if(!expression.isPure() || instructions.size() - start != operands)
+            return false;
+
+        Object[] args = new Object[operandTypes.size()];
+        for (int i = 0; i < operands; i++) {
+            Instruction instruction = instructions.get(start + i);
+            Object value = instruction.getConstant();
+            if(instruction.getOpCode() != OpCode.CONSTANT || value == null || value.getClass() != operandTypes.get(operandStart + i))
+                return false;
+            args[operandStart + i] = value;
+        }
+
+        Object value;
+        try {
+            value = expression.box(args);
+        } catch (RuntimeException e) {
+            return false; // left to fail when executed, the same way it did before
+        }
+        instructions.subList(start, instructions.size()).clear();
+        operandNodes.subList(operandStart, operandNodes.size()).clear();
+        operandTypes.subList(operandStart, operandTypes.size()).clear();
+        instructions.add(new Instruction(OpCode.CONSTANT, null, value, 0));
+        return true;
+    }
+
+    /**
+     * emits the instructions of a receivable node and its received values
+     * @param node a given receivable node
+     * @param opCode the node's operation code
+     * @param next the trees of the node's received values
+     * @param instructions the instructions to emit into
+     * @param subexpressions the shared subtrees, null if none are shared
+     * @return false if the node received less values than it requires
+     */
+    private boolean emitReceivable(IReceiveAbleNode node, OpCode opCode, FunctionTree[] next, List<Instruction> instructions, Subexpressions subexpressions){
+        int arity = node.getReceivedTypes().length;
+        if(arity > 0 && (next == null || next.length < arity))
+            return false;
+
+        Class[] receivedTypes = node.getReceivedTypes();
+        boolean typeChecked = true;
+        for (int i = 0; i < arity; i++) {
+            if(!emit(next[i], instructions, subexpressions))
+                return false;
+            // the value of a received tree is pushed by the last instruction of the tree
+            Class<?> type = instructions.get(instructions.size() - 1).getResultType();
+            typeChecked &= type != null && receivedTypes[i].isAssignableFrom(type);
+        }
+
+        if(opCode == OpCode.PARAMETER && ((IParameter) node).isPure() && fold((IParameter) node, arity, instructions))
+            return true;
+
+        instructions.add(new Instruction(opCode, node, null, arity, typeChecked));
+        return true;
+    }
+
+    /**
+     * folds a pure parameter whose received values are all constants into a single constant,
+     * a received tree pushes a constant only if the whole tree is that constant
+     * @param parameter a given pure parameter
+     * @param arity the amount of the parameter's received values
+     * @param instructions the instructions to emit into, ending with the received values' instructions
+     * @return if the parameter was folded
+     */
+    private boolean fold(IParameter parameter, int arity, List<Instruction> instructions){
+        int first = instructions.size() - arity;
+        Class[] receivedTypes = parameter.getReceivedTypes();
+        Object[] args = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            Instruction instruction = instructions.get(first + i);
+            if(instruction.getOpCode() != OpCode.CONSTANT && instruction.getOpCode() != OpCode.FOLDED)
+                return false;
+            Object value = instruction.getConstant();
+            if(!isFoldable(value) || !receivedTypes[i].isInstance(value))
+                return false;
+            args[i] = copy(value); // pure parameters may still change their received values
+        }
+
+        Object value;
+        try {
+            value = parameter.getParameter(args);
+        } catch (RuntimeException e) {
+            return false; // left to fail when executed, the same way it did before
+        }
+        if(!isFoldable(value))
+            return false;
+
+        instructions.subList(first, instructions.size()).clear();
+        instructions.add(new Instruction(value instanceof Vector ? OpCode.FOLDED : OpCode.CONSTANT, null, value, 0));
+        return true;
+    }
+
+    /**
+     *
+     * @param value a given value
+     * @return if the given value does not depend on the server's state, so it can be computed while compiling
+     */
+    private static boolean isFoldable(Object value){
+        return value instanceof Integer || value instanceof Double || value instanceof Float || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Boolean || value instanceof String
+                || value instanceof Enum || value instanceof Vector;
+    }
+
+    /**
+     *
+     * @param value a given folded or shared value
+     * @return a copy of the given value if it is mutable, otherwise the value itself
+     */
+    static Object copy(Object value){
+        if(value instanceof Vector)
+            return ((Vector) value).clone();
+        if(value instanceof Location)
+            return ((Location) value).clone();
+        return value;
+    }
+
+    /**
+     *
+     * @param primitive a given true primitive
+     * @return if the given primitive's value does not depend on the executor or the item
+     */
+    private static boolean isConstant(TruePrimitive primitive){
+        try {
+            return primitive.getClass().getMethod("getValue", LivingEntity.class, ItemStack.class).getDeclaringClass() == TruePrimitive.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The deterministic subtrees which are repeated within the action trees of a single event with no mutating action
+     * executed between their occurrences, each gets a slot which holds its value between its occurrences
+     */
+    private static final class Subexpressions{
+
+        /**
+         * the structural key of every deterministic parameter subtree along with the amount of mutating actions executed before it.
+         * keys are lists tagged by the kind of their node, so different subtrees never have equal keys
+         */
+        private final Map<FunctionTree, List<Object>> keys;
+
+        /**
+         * the slot of every repeated key
+         */
+        private final Map<List<Object>, Integer> slots;
+
+        /**
+         * the key of missing values and of null constants
+         */
+        private static final List<Object> NULL_KEY = Collections.singletonList('0');
+
+        /**
+         * the amount of mutating actions executed before the currently keyed subtree, the subtrees are keyed in execution order
+         */
+        private int mutations;
+
+        /**
+         *
+         * @param trees the event's action trees
+         */
+        private Subexpressions(List<FunctionTree> trees){
+            this.keys = new IdentityHashMap<>();
+            Map<List<Object>, Integer> counts = new HashMap<>();
+            for (FunctionTree tree : trees)
+                key(tree, counts);
+
+            this.slots = new HashMap<>();
+            for (Map.Entry<List<Object>, Integer> entry : counts.entrySet())
+                if(entry.getValue() > 1)
+                    slots.put(entry.getKey(), slots.size());
+        }
+
+        /**
+         * computes the structural keys of the given tree and its subtrees, and counts the parameter subtrees
+         * @param tree a given tree
+         * @param counts the amount of occurrences of every parameter subtree's key
+         * @return the given tree's key, null if its value is not deterministic
+         */
+        private List<Object> key(FunctionTree tree, Map<List<Object>, Integer> counts){
+            if(tree == null)
+                return NULL_KEY;
+
+            Object current = tree.getCurrent();
+            FunctionTree[] next = tree.getNext();
+            if(!(current instanceof IAction) && (next == null || next.length == 0)) {
+                if(current instanceof TruePrimitive) {
+                    Object value = ((TruePrimitive) current).getValue();
+                    if(isConstant((TruePrimitive) current)) // constants are compared by their class and equals
+                        return value == null ? NULL_KEY : Arrays.asList('c', value.getClass(), value);
+                    return Arrays.asList('v', ((TruePrimitive) current).getKey(), value);
+                }
+                return current instanceof IPrimitive ? Arrays.asList('p', ((IPrimitive) current).getKey()) : NULL_KEY;
+            }
+            if(!(current instanceof IReceiveAbleNode))
+                return NULL_KEY;
+            if(next == null)
+                return null;
+
+            boolean deterministic = current instanceof IParameter && ((IParameter) current).isDeterministic()
+                    && next.length >= ((IParameter) current).getReceivedTypes().length;
+            List<Object> key = new ArrayList<>(next.length + 2);
+            key.add('n');
+            key.add(((INode) current).getKey());
+            for (FunctionTree received : next) {
+                List<Object> receivedKey = key(received, counts); // the subtrees are keyed even if this tree is not deterministic
+                deterministic &= receivedKey != null;
+                if(deterministic)
+                    key.add(receivedKey);
+            }
+            if(current instanceof IAction && ((IAction) current).isMutating())
+                mutations++; // the action executes after its received values, the following occurrences can not reuse the former ones
+            if(!deterministic)
+                return null;
+
+            List<Object> occurrence = Arrays.asList(mutations, key);
+            keys.put(tree, occurrence);
+            counts.merge(occurrence, 1, Integer::sum);
+            return key;
+        }
+
+        /**
+         *
+         * @param tree a given subtree
+         * @return the slot of the given subtree, -1 if the subtree is not shared
+         */
+        private int getSlot(FunctionTree tree){
+            List<Object> key = keys.get(tree);
+            if(key == null)
+                return -1;
+            Integer slot = slots.get(key);
+            return slot == null ? -1 : slot;
+        }
+
+        private int getSlotCount(){
+            return slots.size();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package Nodes.Execution;
+
+import Nodes.INode;
+import Nodes.IReturningNode;
+
+/**
+ * A single instruction of a compiled function, everything the instruction needs is resolved while compiling
+ */
+public final class Instruction {
+
+    /**
+     * The instruction's operation code
+     */
+    private final OpCode opCode;
+
+    /**
+     * The node the instruction executes, null for constants
+     */
+    private final INode node;
+
+    /**
+     * The value pushed by a constant or folded instruction
+     */
+    private final Object constant;
+
+    /**
+     * The amount of values the instruction pops from the stack
+     */
+    private final int arity;
+
+    /**
+     * if the types of the values the instruction pops were proven to match the node's received types while compiling,
+     * so only their presence is checked when executing
+     */
+    private final boolean typeChecked;
+
+    /**
+     * The slot of a shared or store instruction
+     */
+    private final int slot;
+
+    /**
+     * The amount of instructions a shared instruction skips when its slot holds a value
+     */
+    private final int skip;
+
+    /**
+     *
+     * @param opCode the instruction's operation code
+     * @param node the node the instruction executes
+     * @param constant the value pushed by a constant instruction
+     * @param arity the amount of values the instruction pops from the stack
+     */
+    public Instruction(OpCode opCode, INode node, Object constant, int arity) {
+        this(opCode, node, constant, arity, false);
+    }
+
+    /**
+     *
+     * @param opCode the instruction's operation code
+     * @param node the node the instruction executes
+     * @param constant the value pushed by a constant instruction
+     * @param arity the amount of values the instruction pops from the stack
+     * @param typeChecked if the types of the popped values were proven to match the node's received types
+     */
+    public Instruction(OpCode opCode, INode node, Object constant, int arity, boolean typeChecked) {
+        this(opCode, node, constant, arity, typeChecked, -1, 0);
+    }
+
+    private Instruction(OpCode opCode, INode node, Object constant, int arity, boolean typeChecked, int slot, int skip) {
+        this.opCode = opCode;
+        this.node = node;
+        this.constant = constant;
+        this.arity = arity;
+        this.typeChecked = typeChecked;
+        this.slot = slot;
+        this.skip = skip;
+    }
+
+    /**
+     *
+     * @param node the root node of the shared subtree
+     * @param slot the subtree's slot
+     * @param skip the amount of the subtree's instructions, including its store instruction
+     * @return a shared instruction
+     */
+    public static Instruction shared(INode node, int slot, int skip){
+        return new Instruction(OpCode.SHARED, node, null, 0, false, slot, skip);
+    }
+
+    /**
+     *
+     * @param node the root node of the shared subtree
+     * @param slot the subtree's slot
+     * @return a store instruction
+     */
+    public static Instruction store(INode node, int slot){
+        return new Instruction(OpCode.STORE, node, null, 0, false, slot, 0);
+    }
+
+    /**
+     *
+     * @return the change in the amount of values on the stack after the instruction executes, shared subtrees always push a single value
+     */
+    public int getStackEffect(){
+        switch (opCode) {
+            case SHARED:
+            case STORE:
+                return 0;
+            default:
+                return 1 - arity;
+        }
+    }
+
+    /**
+     *
+     * @return the type of the value the instruction pushes, null if it is unknown or the value is always null
+     */
+    public Class<?> getResultType(){
+        switch (opCode) {
+            case CONSTANT:
+            case FOLDED:
+                return constant == null ? null : constant.getClass();
+            case ACTION:
+                return Boolean.class;
+            default:
+                return node instanceof IReturningNode ? ((IReturningNode) node).getReturnType() : null;
+        }
+    }
+
+    public OpCode getOpCode() {
+        return opCode;
+    }
+
+    public INode getNode() {
+        return node;
+    }
+
+    public Object getConstant() {
+        return constant;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+
+    public boolean isTypeChecked() {
+        return typeChecked;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public int getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String toString() {
+        return opCode + (node == null ? " " + constant : " " + node.getKey()) + (arity > 0 ? " (" + arity + (typeChecked ? ", checked)" : ")") : "")
+                + (slot >= 0 ? " [" + slot + "]" : "");
+    }
+}
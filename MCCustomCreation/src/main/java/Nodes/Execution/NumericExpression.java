@@ -0,0 +1,247 @@
+package Nodes.Execution;
+
+import Nodes.INode;
+import Nodes.IParameter;
+import Nodes.NumericOperation;
+import Utility.Logging.Diagnostics;
+
+import java.util.List;
+
+/**
+ * A chain of numeric parameters compiled into a single instruction.
+ * the chain's intermediate values are passed as unboxed longs and doubles, only the chain's received values are unboxed
+ * and only its value is boxed
+ */
+public final class NumericExpression {
+
+    /**
+     * The numeric types a numeric parameter receives and returns
+     */
+    public enum NumericType {
+        INTEGER(Integer.class, true),
+        LONG(Long.class, true),
+        FLOAT(Float.class, false),
+        DOUBLE(Double.class, false);
+
+        private final Class<?> type;
+        private final boolean integral;
+
+        NumericType(Class<?> type, boolean integral) {
+            this.type = type;
+            this.integral = integral;
+        }
+
+        /**
+         *
+         * @param type a given class
+         * @return the numeric type of the given class, null if it is not a numeric type
+         */
+        public static NumericType of(Class<?> type){
+            for (NumericType numericType : values())
+                if(numericType.type == type)
+                    return numericType;
+            return null;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public boolean isIntegral() {
+            return integral;
+        }
+    }
+
+    /**
+     * the expression's parameter, null if the expression is one of the chain's received values
+     */
+    private final IParameter parameter;
+
+    /**
+     * the parameter's operation on unboxed numbers, null if the expression is one of the chain's received values
+     */
+    private final NumericOperation operation;
+
+    /**
+     * the type of the expression's value
+     */
+    private final NumericType type;
+
+    /**
+     * the type the parameter receives
+     */
+    private final NumericType receivedType;
+
+    /**
+     * the index of the received value within the chain's received values, -1 for parameters
+     */
+    private final int operand;
+
+    /**
+     * the expressions of the parameter's received values
+     */
+    private final NumericExpression[] received;
+
+    /**
+     * the types of the chain's received values, set on the chain's root only
+     */
+    private Class<?>[] operandTypes;
+
+    /**
+     * the parameters receiving the chain's received values, set on the chain's root only
+     */
+    private INode[] operandNodes;
+
+    private NumericExpression(IParameter parameter, NumericType type, NumericType receivedType, int operand, NumericExpression[] received) {
+        this.parameter = parameter;
+        this.operation = parameter == null ? null : parameter.getNumericOperation();
+        this.type = type;
+        this.receivedType = receivedType;
+        this.operand = operand;
+        this.received = received;
+    }
+
+    /**
+     *
+     * @param type the received value's type
+     * @param operand the index of the received value within the chain's received values
+     * @return an expression of a received value of the chain
+     */
+    static NumericExpression operand(NumericType type, int operand){
+        return new NumericExpression(null, type, null, operand, null);
+    }
+
+    /**
+     *
+     * @param parameter a given numeric parameter
+     * @param received the expressions of the parameter's received values
+     * @return an expression of the given parameter
+     */
+    static NumericExpression parameter(IParameter parameter, NumericExpression[] received){
+        return new NumericExpression(parameter, NumericType.of(parameter.getReturnType()), NumericType.of(parameter.getReceivedTypes()[0]), -1, received);
+    }
+
+    /**
+     *
+     * @param parameter a given parameter
+     * @return if the given parameter can be a part of a numeric chain, it has a numeric operation matching its received types,
+     * it receives one or two numbers of a single type and returns a number
+     */
+    static boolean isNumeric(Object parameter){
+        if(!(parameter instanceof IParameter))
+            return false;
+        IParameter numeric = (IParameter) parameter;
+        NumericOperation operation = numeric.getNumericOperation();
+        Class[] receivedTypes = numeric.getReceivedTypes();
+        if(operation == null || receivedTypes.length == 0 || receivedTypes.length > 2 || NumericType.of(numeric.getReturnType()) == null)
+            return false;
+        for (Class receivedType : receivedTypes)
+            if(receivedType != receivedTypes[0] || NumericType.of(receivedType) == null)
+                return false;
+        return NumericType.of(receivedTypes[0]).isIntegral() == operation.isIntegral();
+    }
+
+    /**
+     * sets this expression as a chain's root
+     * @param operandNodes the parameters receiving the chain's received values, in order
+     * @param operandTypes the types of the chain's received values, in order
+     * @return this expression
+     */
+    NumericExpression root(List<INode> operandNodes, List<Class<?>> operandTypes){
+        this.operandNodes = operandNodes.toArray(new INode[0]);
+        this.operandTypes = operandTypes.toArray(new Class<?>[0]);
+        return this;
+    }
+
+    /**
+     * computes the value of the chain
+     * @param args the chain's received values
+     * @return the chain's boxed value, null if the received values do not match the chain's received types
+     */
+    public Object evaluate(Object[] args){
+        for (int i = 0; i < operandTypes.length; i++)
+            if(args[i] == null || args[i].getClass() != operandTypes[i]) {
+                INode node = operandNodes[i];
+                Object given = args[i];
+                Class<?> expected = operandTypes[i];
+                Diagnostics.INSTANCE.report(node.getKey(), () -> "Inappropriate arguments given to receivable node " + node.getKeyAsDisplay()
+                        + " , so ignored. parameter is or null or not matching, given: " + given + " expected: " + expected.getSimpleName());
+                return null;
+            }
+
+        return box(args);
+    }
+
+    /**
+     * computes the boxed value of the expression, the received values must match the received types
+     * @param args the chain's received values
+     * @return the expression's boxed value
+     */
+    Object box(Object[] args){
+        switch (type) {
+            case INTEGER:
+                return (int) asLong(args);
+            case LONG:
+                return asLong(args);
+            case FLOAT:
+                return (float) asDouble(args);
+            default:
+                return asDouble(args);
+        }
+    }
+
+    /**
+     *
+     * @param args the chain's received values
+     * @return the value of an integral expression
+     */
+    private long asLong(Object[] args){
+        if(parameter == null)
+            return ((Number) args[operand]).longValue();
+        if(!receivedType.isIntegral()) {
+            double value = operation.applyAsDouble(received[0].asDouble(args), received.length > 1 ? received[1].asDouble(args) : 0);
+            return type == NumericType.INTEGER ? (int) value : (long) value; // the same as Double.intValue and longValue
+        }
+        long value = operation.applyAsLong(received[0].asLong(args), received.length > 1 ? received[1].asLong(args) : 0);
+        return type == NumericType.INTEGER ? (int) value : value;
+    }
+
+    /**
+     *
+     * @param args the chain's received values
+     * @return the value of a floating expression
+     */
+    private double asDouble(Object[] args){
+        if(parameter == null)
+            return ((Number) args[operand]).doubleValue();
+        double value = receivedType.isIntegral()
+                ? operation.applyAsLong(received[0].asLong(args), received.length > 1 ? received[1].asLong(args) : 0)
+                : operation.applyAsDouble(received[0].asDouble(args), received.length > 1 ? received[1].asDouble(args) : 0);
+        return type == NumericType.FLOAT ? (float) value : value;
+    }
+
+    /**
+     *
+     * @return if all the chain's parameters are pure
+     */
+    boolean isPure(){
+        if(parameter == null)
+            return true;
+        if(!parameter.isPure())
+            return false;
+        for (NumericExpression expression : received)
+            if(!expression.isPure())
+                return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if(parameter == null)
+            return "$" + operand;
+        StringBuilder builder = new StringBuilder(parameter.getKey()).append('(');
+        for (int i = 0; i < received.length; i++)
+            builder.append(i == 0 ? "" : ", ").append(received[i]);
+        return builder.append(')').toString();
+    }
+}
@@ -0,0 +1,48 @@
+package Nodes.Execution;
+
+/**
+ * The operation codes of a compiled function's instructions
+ */
+public enum OpCode {
+
+    /**
+     * pushes a value which was resolved while compiling (true primitives' values)
+     */
+    CONSTANT,
+
+    /**
+     * pushes a copy of a mutable value which was folded while compiling, so executions do not share it
+     */
+    FOLDED,
+
+    /**
+     * pushes the value of a primitive which depends on the executor and the item
+     */
+    PRIMITIVE,
+
+    /**
+     * pops the parameter's arguments and pushes the parameter's result
+     */
+    PARAMETER,
+
+    /**
+     * pops the action's arguments, performs it and pushes if it was successful
+     */
+    ACTION,
+
+    /**
+     * pops the received values of a numeric parameters chain and pushes the chain's value, computed on unboxed numbers
+     */
+    NUMERIC,
+
+    /**
+     * pushes a copy of the slot's value and skips the shared subtree if the slot holds a value since the last action,
+     * otherwise the shared subtree executes
+     */
+    SHARED,
+
+    /**
+     * stores the shared subtree's value in the slot, and replaces it with a copy so the slot's value is not changed
+     */
+    STORE
+}
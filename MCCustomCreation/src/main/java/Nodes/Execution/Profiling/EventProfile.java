@@ -0,0 +1,197 @@
+package Nodes.Execution.Profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution metrics of a single event of a creation
+ */
+public final class EventProfile {
+
+    /**
+     * the profiled creation's name
+     */
+    private final String creation;
+
+    /**
+     * the profiled event's key
+     */
+    private final String event;
+
+    /**
+     * the amount of executions, their total time in nanoseconds and their failed argument checks
+     */
+    private final LongAdder invocations;
+    private final LongAdder totalNanos;
+    private final LongAdder failedChecks;
+
+    /**
+     * the amount of executions which were not finished within the tick's budget and continued on a later tick
+     */
+    private final LongAdder deferred;
+
+    /**
+     * the executions' latencies
+     */
+    private final LatencyHistogram latencies;
+
+    /**
+     * the metrics of the event's actions by their key
+     */
+    private final Map<String, ActionProfile> actions;
+
+    /**
+     *
+     * @param creation the profiled creation's name
+     * @param event the profiled event's key
+     */
+    EventProfile(String creation, String event) {
+        this.creation = creation;
+        this.event = event;
+        this.invocations = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.failedChecks = new LongAdder();
+        this.deferred = new LongAdder();
+        this.latencies = new LatencyHistogram();
+        this.actions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * records an execution of the event
+     * @param nanos the execution's time in nanoseconds
+     * @param failed the amount of argument checks which failed in the execution
+     */
+    public void record(long nanos, long failed){
+        record(nanos, failed, true, false);
+    }
+
+    /**
+     * records a part of an execution of the event, an execution is split when it is deferred to later ticks
+     * @param nanos the part's time in nanoseconds
+     * @param failed the amount of argument checks which failed in the part
+     * @param first if the part is the start of the execution, only the start is counted as an invocation
+     * @param deferred if the rest of the execution was deferred
+     */
+    public void record(long nanos, long failed, boolean first, boolean deferred){
+        if(first) {
+            invocations.increment();
+            latencies.record(nanos);
+        }
+        totalNanos.add(nanos);
+        if(failed > 0)
+            failedChecks.add(failed);
+        if(deferred)
+            this.deferred.increment();
+    }
+
+    /**
+     * records an execution of one of the event's actions
+     * @param key the action's key
+     * @param nanos the execution's time in nanoseconds
+     */
+    public void recordAction(String key, long nanos){
+        if(key == null)
+            return;
+        ActionProfile action = actions.get(key);
+        if(action == null)
+            action = actions.computeIfAbsent(key, ActionProfile::new);
+        action.record(nanos);
+    }
+
+    public String getCreation() {
+        return creation;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public long getInvocations(){
+        return invocations.sum();
+    }
+
+    public long getTotalNanos(){
+        return totalNanos.sum();
+    }
+
+    public long getFailedChecks(){
+        return failedChecks.sum();
+    }
+
+    public long getDeferred(){
+        return deferred.sum();
+    }
+
+    /**
+     *
+     * @param percentile a given percentile
+     * @return the given percentile of the executions' latencies in nanoseconds
+     */
+    public long getPercentile(double percentile){
+        return latencies.getPercentile(percentile);
+    }
+
+    /**
+     *
+     * @param limit the max amount of actions
+     * @return the actions which took the most total time, slowest first
+     */
+    public List<ActionProfile> getSlowestActions(int limit){
+        List<ActionProfile> list = new ArrayList<>(actions.values());
+        list.sort(Comparator.comparingLong(ActionProfile::getTotalNanos).reversed());
+        return list.size() > limit ? list.subList(0, limit) : list;
+    }
+
+    /**
+     * The execution metrics of an action of an event
+     */
+    public static final class ActionProfile {
+
+        /**
+         * the action's key
+         */
+        private final String key;
+
+        /**
+         * the amount of executions and their total and max time in nanoseconds
+         */
+        private final LongAdder count;
+        private final LongAdder totalNanos;
+        private final AtomicLong maxNanos;
+
+        private ActionProfile(String key) {
+            this.key = key;
+            this.count = new LongAdder();
+            this.totalNanos = new LongAdder();
+            this.maxNanos = new AtomicLong();
+        }
+
+        private void record(long nanos){
+            count.increment();
+            totalNanos.add(nanos);
+            if(nanos > maxNanos.get())
+                maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getCount(){
+            return count.sum();
+        }
+
+        public long getTotalNanos(){
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos(){
+            return maxNanos.get();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package Nodes.Execution.Profiling;
+
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the execution metrics of every creation's events while enabled.
+ * when disabled, executing an event only checks if the profiler is enabled
+ */
+public class ExecutionProfiler {
+
+    /**
+     * the amount of slowest actions reported for every event
+     */
+    private static final int REPORTED_ACTIONS = 3;
+
+    /**
+     * Singleton implementation
+     */
+    public static final ExecutionProfiler INSTANCE = new ExecutionProfiler();
+
+    /**
+     * if the executions are profiled
+     */
+    private volatile boolean enabled;
+
+    /**
+     * the profiles of every creation's events, by the creation's name and then by the event's key
+     */
+    private final Map<String, Map<String, EventProfile>> profiles;
+
+    /**
+     * the time the profiles were collected since, in milliseconds
+     */
+    private volatile long since;
+
+    private ExecutionProfiler(){
+        this.profiles = new ConcurrentHashMap<>();
+        this.since = System.currentTimeMillis();
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @param event a given event key
+     * @return the profile of the given event of the given creation, null if the profiler is disabled
+     */
+    public EventProfile getProfile(String creation, String event){
+        if(!enabled)
+            return null;
+        Map<String, EventProfile> events = profiles.get(creation);
+        if(events == null)
+            events = profiles.computeIfAbsent(creation, c -> new ConcurrentHashMap<>());
+        EventProfile profile = events.get(event);
+        if(profile == null)
+            profile = events.computeIfAbsent(event, e -> new EventProfile(creation, e));
+        return profile;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * removes all the collected profiles
+     */
+    public void reset(){
+        profiles.clear();
+        since = System.currentTimeMillis();
+    }
+
+    /**
+     *
+     * @return all the collected profiles, the ones which took the most total time first
+     */
+    public List<EventProfile> getProfiles(){
+        List<EventProfile> list = new ArrayList<>();
+        for (Map<String, EventProfile> events : profiles.values())
+            list.addAll(events.values());
+        list.sort(Comparator.comparingLong(EventProfile::getTotalNanos).reversed());
+        return list;
+    }
+
+    /**
+     *
+     * @param limit the max amount of reported events
+     * @return the report lines of the events which took the most total time
+     */
+    public List<String> report(int limit){
+        List<String> lines = new ArrayList<>();
+        List<EventProfile> list = getProfiles();
+        lines.add("Profiling " + (enabled ? "enabled" : "disabled") + ", " + list.size() + " profiled events since "
+                + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(since)) + ".");
+
+        for (EventProfile profile : list.subList(0, Math.min(limit, list.size()))) {
+            long invocations = profile.getInvocations();
+            lines.add(profile.getCreation() + " / " + profile.getEvent() + ": " + invocations + " runs, total " + toMillis(profile.getTotalNanos())
+                    + "ms, avg " + toMicros(invocations == 0 ? 0 : profile.getTotalNanos() / invocations)
+                    + "us, p99 " + toMicros(profile.getPercentile(99)) + "us, " + profile.getFailedChecks() + " failed checks, " + profile.getDeferred() + " deferred");
+
+            StringBuilder actions = new StringBuilder("  slowest actions:");
+            for (EventProfile.ActionProfile action : profile.getSlowestActions(REPORTED_ACTIONS))
+                actions.append(' ').append(action.getKey()).append(" (avg ").append(toMicros(action.getTotalNanos() / Math.max(1, action.getCount())))
+                        .append("us, max ").append(toMicros(action.getMaxNanos())).append("us)");
+            lines.add(actions.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * writes the full report to the given file
+     * @param file a given file
+     */
+    public void dump(File file){
+        try {
+            Files.write(file.toPath(), report(Integer.MAX_VALUE), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logging.log("Could not write the profile file " + file + ": " + e.getMessage(), LoggingOptions.ERROR);
+        }
+    }
+
+    /**
+     *
+     * @param nanos a given time in nanoseconds
+     * @return the given time in milliseconds
+     */
+    private static double toMillis(long nanos){
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     *
+     * @param nanos a given time in nanoseconds
+     * @return the given time in microseconds
+     */
+    private static double toMicros(long nanos){
+        return Math.round(nanos / 10.0) / 100.0;
+    }
+}
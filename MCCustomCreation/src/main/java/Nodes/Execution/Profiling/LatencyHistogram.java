@@ -0,0 +1,92 @@
+package Nodes.Execution.Profiling;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size histogram of latencies in nanoseconds.
+ * every power of two range is split into 8 buckets, so a recorded value is known within 12.5% of it
+ */
+public final class LatencyHistogram {
+
+    /**
+     * the amount of buckets of every power of two range
+     */
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * values below it have a bucket each
+     */
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+
+    /**
+     * the amount of buckets, enough for any positive long
+     */
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - 4) * SUB_BUCKETS;
+
+    /**
+     * the amount of values in every bucket
+     */
+    private final AtomicLongArray counts;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+    }
+
+    /**
+     * records the given latency
+     * @param nanos a given latency in nanoseconds
+     */
+    public void record(long nanos){
+        counts.incrementAndGet(indexOf(Math.max(0, nanos)));
+    }
+
+    /**
+     *
+     * @param percentile a given percentile, between 0 and 100
+     * @return the latency in nanoseconds which the given percentile of the recorded latencies are at most, 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile){
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += counts.get(i);
+        if(total == 0)
+            return 0;
+
+        long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if(seen >= Math.max(1, rank))
+                return upperBoundOf(i);
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     *
+     * @param value a given non negative value
+     * @return the index of the bucket of the given value
+     */
+    private static int indexOf(long value){
+        if(value < LINEAR_LIMIT)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     *
+     * @param index a given bucket index
+     * @return the highest value of the bucket with the given index
+     */
+    private static long upperBoundOf(int index){
+        if(index < LINEAR_LIMIT)
+            return index;
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 4;
+        int sub = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + sub) * width) + width - 1;
+    }
+}
@@ -0,0 +1,175 @@
+package Nodes.Execution;
+
+import Nodes.IParameter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the values of expensive parameters whose values barely change, such as structure locations.
+ * a parameter is cached if its cache time to live is positive, its values are cached by the parameter's cache key
+ * of the received objects, for the parameter's time to live. the least recently used values are evicted once the cache is full
+ */
+public class ResultCache {
+
+    /**
+     * Singleton implementation
+     */
+    public static final ResultCache INSTANCE = new ResultCache();
+
+    /**
+     * the time to live of the values of the default cached parameters in milliseconds
+     */
+    private volatile long defaultTtl;
+
+    /**
+     * the max amount of cached values, 0 or less disables the cache
+     */
+    private volatile int maxSize;
+
+    /**
+     * the cached values in access order, the least recently used first
+     */
+    private final LinkedHashMap<Key, Entry> entries;
+
+    /**
+     * the cache's metrics
+     */
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    private ResultCache(){
+        this.defaultTtl = 0;
+        this.maxSize = 1000;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if(size() <= maxSize)
+                    return false;
+                evictions.increment();
+                return true;
+            }
+        };
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * configures the cache, the cached values are removed
+     * @param defaultTtlSeconds the time to live of the values of the default cached parameters in seconds
+     * @param maxSize the max amount of cached values, 0 or less disables the cache
+     */
+    public synchronized void configure(double defaultTtlSeconds, int maxSize){
+        this.defaultTtl = (long) (defaultTtlSeconds * TimeUnit.SECONDS.toMillis(1));
+        this.maxSize = maxSize;
+        entries.clear();
+    }
+
+    /**
+     * computes the value of the given parameter, or returns its cached value if the parameter is cached
+     * @param parameter a given parameter
+     * @param objects the parameter's received objects
+     * @return the parameter's value, a copy of a mutable cached value
+     */
+    public Object get(IParameter parameter, Object... objects){
+        long ttl = parameter.getCacheTtl();
+        if(ttl <= 0 || maxSize <= 0)
+            return parameter.getParameter(objects);
+        Object cacheKey = parameter.getCacheKey(objects);
+        if(cacheKey == null)
+            return parameter.getParameter(objects);
+
+        Key key = new Key(parameter, cacheKey);
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if(entry != null && entry.expires - now > 0) {
+                hits.increment();
+                return FunctionCompiler.copy(entry.value);
+            }
+        }
+
+        misses.increment();
+        Object value = parameter.getParameter(objects);
+        synchronized (this) {
+            entries.put(key, new Entry(value, now + ttl));
+        }
+        return FunctionCompiler.copy(value);
+    }
+
+    /**
+     * removes all the cached values
+     */
+    public synchronized void clear(){
+        entries.clear();
+    }
+
+    /**
+     *
+     * @return the time to live of the values of the default cached parameters in milliseconds
+     */
+    public long getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public synchronized int getSize(){
+        return entries.size();
+    }
+
+    public long getHits(){
+        return hits.sum();
+    }
+
+    public long getMisses(){
+        return misses.sum();
+    }
+
+    public long getEvictions(){
+        return evictions.sum();
+    }
+
+    /**
+     * The key of a cached value, the parameter and the parameter's cache key
+     */
+    private static final class Key{
+        private final IParameter parameter;
+        private final Object key;
+
+        private Key(IParameter parameter, Object key) {
+            this.parameter = parameter;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o)
+                return true;
+            if(!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return parameter == other.parameter && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * parameter.getKey().hashCode() + key.hashCode();
+        }
+    }
+
+    /**
+     * A cached value and the time it expires at
+     */
+    private static final class Entry{
+        private final Object value;
+        private final long expires;
+
+        private Entry(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+}
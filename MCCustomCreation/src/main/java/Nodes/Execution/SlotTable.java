@@ -0,0 +1,58 @@
+package Nodes.Execution;
+
+/**
+ * The values of an event execution's shared subtrees.
+ * a slot's value is valid until an action executes, since actions may change the server's state the value was read from
+ */
+public final class SlotTable {
+
+    /**
+     * the value of every slot
+     */
+    private final Object[] values;
+
+    /**
+     * the epoch every slot's value was stored in
+     */
+    private final int[] epochs;
+
+    /**
+     * the current epoch, advanced by every executed action
+     */
+    private int epoch;
+
+    /**
+     *
+     * @param size the amount of slots
+     */
+    public SlotTable(int size) {
+        this.values = new Object[size];
+        this.epochs = new int[size];
+        this.epoch = 1;
+    }
+
+    /**
+     *
+     * @param slot a given slot
+     * @return if the given slot holds a value stored since the last action
+     */
+    public boolean isValid(int slot){
+        return epochs[slot] == epoch;
+    }
+
+    public Object get(int slot){
+        return values[slot];
+    }
+
+    public void set(int slot, Object value){
+        values[slot] = value;
+        epochs[slot] = epoch;
+    }
+
+    /**
+     * invalidates the values of all the slots
+     */
+    public void invalidate(){
+        epoch++;
+    }
+}
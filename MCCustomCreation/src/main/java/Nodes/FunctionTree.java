@@ -2,6 +2,8 @@ package Nodes;
 
 import Nodes.Events.EventInstance;
 import Nodes.Events.IEvent;
+import Nodes.Execution.ExecutionStack;
+import Nodes.Execution.ResultCache;
 import Utility.ConfigUtil.Serialization.Serializations;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.inventory.ItemStack;
@@ -51,6 +53,7 @@ public class FunctionTree implements Serializable,Cloneable {
                 values[i] = executeFunction(func.getNext()[i],executor,item);
             if(action.checkParameters(values))
                 return  action.action(values);
+            ExecutionStack.current().checkFailed();
 
         }
 
@@ -69,7 +72,8 @@ public class FunctionTree implements Serializable,Cloneable {
                 values[i] = executeFunction(func.getNext()[i],executor,item);
 
             if(param.checkParameters(values))
-            return param.getParameter(values);
+            return ResultCache.INSTANCE.get(param, values);
+            ExecutionStack.current().checkFailed();
         }
 
         return null;
@@ -206,12 +210,12 @@ public class FunctionTree implements Serializable,Cloneable {
         if(map == null)
             return null;
 
-        FunctionTree tree = new FunctionTree(NodesHandler.INSTANCE.getNodeByName((String) map.get("Name")),null,prev);
+        FunctionTree tree = new FunctionTree(NodesHandler.INSTANCE.instantiate((String) map.get("Name")),null,prev);
         if(tree.getCurrent() instanceof EventInstance)
-            tree.setCurrent(new EventInstance((IEvent) NodesHandler.INSTANCE.getNodeByName((String) map.get("Event")), (Boolean) map.get("Cancelled"),creation));
+            tree.setCurrent(new EventInstance((IEvent) NodesHandler.INSTANCE.instantiate((String) map.get("Event")), (Boolean) map.get("Cancelled"),creation));
 
         if(tree.getCurrent() instanceof TruePrimitive) {
-            ((TruePrimitive) tree.getCurrent()).setValue(Serializations.deserialize((byte[]) map.get("Value"), Class.forName((String) map.get("Class"))));
+            ((TruePrimitive) tree.getCurrent()).setValue(Serializations.deserialize((byte[]) map.get("Value"), Serializations.forName((String) map.get("Class"))));
         } else {
             List<Map<String,Object>> list = (List) map.get("Values");
             if(list == null || list.size() == 0)
@@ -227,6 +231,33 @@ public class FunctionTree implements Serializable,Cloneable {
 
     }
 
+    /**
+     *
+     * @param trees given trees
+     * @return the given trees serialized
+     */
+    public static List<Map<String,Object>> serializeAll(List<FunctionTree> trees){
+        List<Map<String,Object>> list = new ArrayList<>();
+        for (FunctionTree tree : trees)
+            list.add(tree.serialize());
+        return list;
+    }
+
+    /**
+     *
+     * @param list given serialized trees
+     * @param creation the trees' creation
+     * @return the given trees deserialized
+     * @throws CloneNotSupportedException
+     * @throws ClassNotFoundException if the class of a primitive's value does not exist
+     */
+    public static List<FunctionTree> deserializeAll(List<Map<String,Object>> list,String creation) throws CloneNotSupportedException, ClassNotFoundException {
+        List<FunctionTree> trees = new ArrayList<>();
+        for (Map<String, Object> map : list)
+            trees.add(deserialize(null,map,creation));
+        return trees;
+    }
+
     /**
      * puts the default values of the given tree for serialization inside the given map
      * @param tree a given tree
@@ -14,5 +14,13 @@ public interface IAction extends IReceiveAbleNode{
      */
     boolean action(Object... params);
 
+    /**
+     * a mutating action may change the state deterministic parameters read, so the shared values of the event's
+     * functions are computed again after it executes. an action which only sends messages, sounds or particles is not mutating
+     * @return if the action is mutating, true by default
+     */
+    default boolean isMutating(){
+        return true;
+    }
 
 }
@@ -1,7 +1,6 @@
 package Nodes;
 
 import java.io.Serializable;
-import java.util.Locale;
 
 /**
  * An interface representing a node*
@@ -44,13 +43,8 @@ public interface INode extends Cloneable , Serializable {
      * @return the node's key as a display name
      */
     default String getKeyAsDisplay(){
-        String display = getKey().toLowerCase(Locale.ROOT);
-        String[] arr = display.split("_");
-        display = "";
-        for (String s : arr)
-            display += s.substring(0,1).toUpperCase() + s.substring(1) +" ";
-        return display;
+        return NodesHandler.INSTANCE.getDisplay(getKey());
     }
 
 
-}
\ No newline at end of file
+}
@@ -16,4 +16,48 @@ public interface IParameter<T> extends IReceiveAbleNode,IReturningNode{
     T getParameter(Object... objects);
     Class<T> getReturnType();
 
+    /**
+     * a pure parameter's value only depends on its received objects, and it affects nothing but its received objects.
+     * the value of a pure parameter which receives constants is computed once while compiling
+     * @return if the parameter is pure, false by default
+     */
+    default boolean isPure(){
+        return false;
+    }
+
+    /**
+     * a deterministic parameter's value only depends on its received objects and the server's state, and it affects nothing but its received objects.
+     * the value of a deterministic subtree repeated within an event's functions is computed once until an action executes
+     * @return if the parameter is deterministic, pure parameters by default
+     */
+    default boolean isDeterministic(){
+        return isPure();
+    }
+
+    /**
+     *
+     * @return the milliseconds the parameter's values are cached for, 0 if the parameter is not cached
+     */
+    default long getCacheTtl(){
+        return 0;
+    }
+
+    /**
+     * the values of a cached parameter are cached by their key, received objects with equal keys share a cached value
+     * @param objects given received objects
+     * @return the key of the value of the given received objects, null if the value should not be cached
+     */
+    default Object getCacheKey(Object... objects){
+        return null;
+    }
+
+    /**
+     * a numeric parameter receives one or two numbers of a single type (Integer, Long, Float or Double) and returns a number,
+     * chains of numeric parameters are executed on unboxed numbers through their operations
+     * @return the parameter's computation on unboxed numbers, null if the parameter is not numeric
+     */
+    default NumericOperation getNumericOperation(){
+        return null;
+    }
+
 }
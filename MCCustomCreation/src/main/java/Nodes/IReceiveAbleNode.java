@@ -1,7 +1,6 @@
 package Nodes;
 
-import Utility.Logging.Logging;
-import Utility.Logging.LoggingOptions;
+import Utility.Logging.Diagnostics;
 
 /**
  * An interface representing a value receivable node.
@@ -25,18 +24,35 @@ public interface IReceiveAbleNode extends INode{
      * @return if the given parameters are valid and matches the required parameters
      */
     default boolean checkParameters( Object... params){
-        if(params.length < getReceivedTypes().length) {
-            Logging.log("Inappropriate arguments given to receivable node " + getKeyAsDisplay() + " , so ignored. The amount of parameters given was too little.", LoggingOptions.INFO);
+        Class[] receivedTypes = getReceivedTypes();
+        if(params.length < receivedTypes.length) {
+            Diagnostics.INSTANCE.report(getKey(), () -> "Inappropriate arguments given to receivable node " + getKeyAsDisplay() + " , so ignored. The amount of parameters given was too little.");
             return false;
         }
 
-        for(int i = 0; i < getReceivedTypes().length; i++) 
-            if (params[i] == null || !getReceivedTypes()[i].isAssignableFrom(params[i].getClass()))
+        for(int i = 0; i < receivedTypes.length; i++)
+            if (params[i] == null || !receivedTypes[i].isAssignableFrom(params[i].getClass()))
             {
-                Logging.log("Inappropriate arguments given to receivable node "+getKeyAsDisplay()+" , so ignored. parameter is or null or not matching, given: "+params[i]+" expected: "+getReceivedTypes()[i].getSimpleName(), LoggingOptions.INFO);
+                Object given = params[i];
+                Class expected = receivedTypes[i];
+                Diagnostics.INSTANCE.report(getKey(), () -> "Inappropriate arguments given to receivable node "+getKeyAsDisplay()+" , so ignored. parameter is or null or not matching, given: "+given+" expected: "+expected.getSimpleName());
+                return false;
+            }
+
+        return true;
+    }
+
+    /**
+     * checks only that the given parameters are present, for parameters whose types were already proven to match the received types
+     * @param params given parameters, exactly as many as the received types
+     * @return if none of the given parameters is null
+     */
+    default boolean checkPresent(Object... params){
+        for (Object param : params)
+            if(param == null) {
+                Diagnostics.INSTANCE.report(getKey(), () -> "Inappropriate arguments given to receivable node " + getKeyAsDisplay() + " , so ignored. parameter is null.");
                 return false;
             }
-        
         return true;
     }
 }
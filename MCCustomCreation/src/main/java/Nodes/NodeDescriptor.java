@@ -0,0 +1,54 @@
+package Nodes;
+
+import Nodes.Events.EventInstance;
+
+/**
+ * A registered node and how to instantiate it
+ */
+public final class NodeDescriptor {
+
+    /**
+     * the node's key
+     */
+    private final String key;
+
+    /**
+     * the registered node
+     */
+    private final INode node;
+
+    /**
+     *
+     * @param key the node's key
+     * @param node the registered node
+     */
+    NodeDescriptor(String key, INode node) {
+        this.key = key;
+        this.node = node;
+    }
+
+    /**
+     *
+     * @return an instance of the node which can be modified, true primitives and event instances are new instances,
+     * other nodes hold no state so the registered node itself is returned
+     */
+    public INode instantiate(){
+        if(node instanceof TruePrimitive)
+            return ((TruePrimitive) node).clone();
+        if(node instanceof EventInstance)
+            return ((EventInstance) node).clone();
+        return node;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     *
+     * @return the registered node, should not be modified
+     */
+    public INode getNode() {
+        return node;
+    }
+}
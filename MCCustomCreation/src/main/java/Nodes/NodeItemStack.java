@@ -3,10 +3,10 @@ package Nodes;
 import Utility.ConfigUtil.Serialization.Serializations;
 import Utility.ItemStackUtil;
 import Utility.PDCUtil;
-import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -19,7 +19,7 @@ import java.util.List;
 public class NodeItemStack implements Serializable {
 
     /**
-     * The Persistent Data Container key for NodeItemStack items
+     * The Persistent Data Container key for NodeItemStack items, the key of the item's node is stored with it
      */
     private static final String PDC_KEY = "NodeItemStack";
 
@@ -53,8 +53,6 @@ public class NodeItemStack implements Serializable {
      */
     private ItemStack itemStack;
 
-    private static final ChatColor VALUES_COLOR = ChatColor.GRAY;
-    private static final ChatColor HEADERS_COLOR = ChatColor.GOLD;
     /**
      *
      * @param material a given material
@@ -84,18 +82,24 @@ public class NodeItemStack implements Serializable {
         this.itemStack = new ItemStack(item);
          meta = itemStack.getItemMeta();
         List<String> lore = meta.hasLore() ? meta.getLore() : new ArrayList<>();
-        if(!classRef.getDescription().isEmpty())
-            lore.add(HEADERS_COLOR+"Description: "+VALUES_COLOR+classRef.getDescription());
-
-        if(classRef instanceof IReceiveAbleNode) {
-            lore.add(HEADERS_COLOR+"Primitives: ");
-            for (Class receivedType : ((IReceiveAbleNode) classRef).getReceivedTypes()) {
-                lore.add(HEADERS_COLOR+"- "+VALUES_COLOR + receivedType.getSimpleName());
-            }
-        }
+        lore.addAll(NodesHandler.INSTANCE.getMetadata(classRef).getLore());
         meta.setLore(lore);
+        PDCUtil.set(meta.getPersistentDataContainer(),PDC_KEY,PersistentDataType.STRING,classRef.getKey());
         itemStack.setItemMeta(meta);
-        this.setNodePDC();
+    }
+
+    /**
+     * copies the given item with another node reference, the item stack is copied as well
+     * @param item a given item
+     * @param classRef a given class reference
+     */
+    private NodeItemStack(NodeItemStack item, INode classRef){
+        this.material = item.material;
+        this.display = item.display;
+        this.lore = item.lore;
+        this.stackAmount = item.stackAmount;
+        this.itemStack = item.itemStack.clone();
+        this.classRef = classRef;
     }
 
     public Material getMaterial() {
@@ -140,23 +144,29 @@ public class NodeItemStack implements Serializable {
      * @return if the given item is a NodeItemStack
      */
     public static boolean isNodeItemStack(ItemStack item){
-        return PDCUtil.has(item,PDC_KEY);
+        return getNodeKey(item) != null;
     }
 
     /**
-     * sets this NodeItemStack instance inside the PDC of this ItemStack instance
+     *
+     * @param item a given item
+     * @return the key of the node of the given item, null if the item is not a NodeItemStack
      */
-    private final void setNodePDC(){
-        PDCUtil.set(this.itemStack,PDC_KEY,this);
+    public static String getNodeKey(ItemStack item){
+        return PDCUtil.get(item,PDC_KEY,PersistentDataType.STRING);
     }
 
     /**
      *
      * @param item a given item
-     * @return the NodeItemStack reference from the PDC of the item
+     * @return the NodeItemStack of the item's node with a new instance of the node, null if the item is not a NodeItemStack of a registered node
      */
     public static NodeItemStack getNodeFromItem(ItemStack item){
-        return isNodeItemStack(item) ? PDCUtil.get(item,PDC_KEY) : null;
+        String key = getNodeKey(item);
+        if(key == null)
+            return null;
+        INode node = NodesHandler.INSTANCE.instantiate(key);
+        return node == null ? null : new NodeItemStack(NodesHandler.INSTANCE.getItemTemplate(node),node);
     }
 
     /**
@@ -0,0 +1,101 @@
+package Nodes;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The display values of a node, computed once since they only depend on the node's key, description and received types
+ */
+public final class NodeMetadata {
+
+    private static final ChatColor VALUES_COLOR = ChatColor.GRAY;
+    private static final ChatColor HEADERS_COLOR = ChatColor.GOLD;
+
+    /**
+     * the node's key
+     */
+    private final String key;
+
+    /**
+     * the node's key as a display name
+     */
+    private final String display;
+
+    /**
+     * the lore lines describing the node, added to the node's item lore
+     */
+    private final List<String> lore;
+
+    /**
+     * the node's item template, created on first use since items need the server
+     */
+    private NodeItemStack item;
+
+    /**
+     *
+     * @param node a given node
+     * @param display the node's key as a display name
+     */
+    NodeMetadata(INode node, String display) {
+        this.key = node.getKey();
+        this.display = display;
+
+        List<String> lore = new ArrayList<>();
+        String description = node.getDescription();
+        if(description != null && !description.isEmpty())
+            lore.add(HEADERS_COLOR+"Description: "+VALUES_COLOR+description);
+
+        if(node instanceof IReceiveAbleNode) {
+            lore.add(HEADERS_COLOR+"Primitives: ");
+            for (Class receivedType : ((IReceiveAbleNode) node).getReceivedTypes())
+                lore.add(HEADERS_COLOR+"- "+VALUES_COLOR + receivedType.getSimpleName());
+        }
+        this.lore = Collections.unmodifiableList(lore);
+    }
+
+    /**
+     *
+     * @param key a given node key
+     * @return the given key as a display name, every word capitalized and followed by a space
+     */
+    static String toDisplay(String key){
+        String lower = key.toLowerCase(Locale.ROOT);
+        StringBuilder display = new StringBuilder(lower.length() + 1);
+        for (String word : lower.split("_"))
+            if(!word.isEmpty())
+                display.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length()).append(' ');
+        return display.toString();
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDisplay() {
+        return display;
+    }
+
+    /**
+     *
+     * @return the lore lines describing the node, unmodifiable
+     */
+    public List<String> getLore() {
+        return lore;
+    }
+
+    /**
+     *
+     * @return the node's item template, null if not created yet
+     */
+    NodeItemStack getItem() {
+        return item;
+    }
+
+    void setItem(NodeItemStack item) {
+        this.item = item;
+    }
+}
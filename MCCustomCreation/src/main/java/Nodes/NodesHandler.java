@@ -1,12 +1,14 @@
 package Nodes;
 
+import Nodes.Events.DefaultEvents;
 import Nodes.Events.EventInstance;
 import Nodes.Events.IEvent;
 import me.ODINN.MCCustomCreation.Main;
 import org.bukkit.Bukkit;
+import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles nodes
@@ -20,33 +22,71 @@ public class NodesHandler {
 
 
     /**
-     * Events map
+     * Events map, the registry maps are immutable and replaced on registration so they can be read without copying
      */
-    private Map<String,IEvent> events;
+    private volatile Map<String,IEvent> events;
 
     /**
      * Actions map
      */
-    private Map<String,IAction> actionMap;
+    private volatile Map<String,IAction> actionMap;
 
     /**
      * Parameter map
      */
-    private Map<String,IParameter> parameterMap;
+    private volatile Map<String,IParameter> parameterMap;
 
     /**
      * Primitives map
      */
-    private Map<String,IPrimitive> primitiveMap;
+    private volatile Map<String,IPrimitive> primitiveMap;
+
+    /**
+     * The descriptors of all the nodes by their key, replaced on registration like the registry maps
+     */
+    private volatile Map<String,NodeDescriptor> descriptors;
+
+    /**
+     * The display names of node keys
+     */
+    private final Map<String,String> displays;
+
+    /**
+     * The metadata of the nodes by their key, computed when registered or first needed
+     */
+    private final Map<String,NodeMetadata> metadata;
+
+    /**
+     * The registered returning nodes (primitives and parameters) by their return type
+     */
+    private final Map<Class,List<IReturningNode>> returningNodes;
+
+    /**
+     * The sorted returning nodes which can be chosen for every requested type, cleared when a node is registered
+     */
+    private final Map<Class,List<IReturningNode>> candidates;
+
+    /**
+     * The order of the candidates, primitives first and then by key
+     */
+    private static final Comparator<IReturningNode> CANDIDATES_ORDER = Comparator
+            .comparingInt((IReturningNode node) -> node instanceof IPrimitive ? 0 : 1)
+            .thenComparing(INode::getKey);
 
     /**
      * Singleton implementation
      */
     private NodesHandler(){
-        this.events = new HashMap<>();
-        this.actionMap = new HashMap<>();
-        this.parameterMap = new HashMap<>();
-        this.primitiveMap = new HashMap<>();
+        this.events = Collections.emptyMap();
+        this.actionMap = Collections.emptyMap();
+        this.parameterMap = Collections.emptyMap();
+        this.primitiveMap = Collections.emptyMap();
+        this.descriptors = Collections.emptyMap();
+        putDescriptor("EVENT_INSTANCE",new EventInstance(null,false,null)); // deserialized event instances are made with their key
+        this.displays = new ConcurrentHashMap<>();
+        this.metadata = new ConcurrentHashMap<>();
+        this.returningNodes = new HashMap<>();
+        this.candidates = new ConcurrentHashMap<>();
     }
 
     /**
@@ -59,114 +99,197 @@ public class NodesHandler {
     }
 
     /**
-     * registers the given node
+     * registers the given node, registrations are synchronized so concurrent ones do not lose each other's copies
      * @param obj a given node
      */
-    public void register(INode obj){
+    public synchronized void register(INode obj){
         if(obj instanceof IAction)
-            putInMap(actionMap,(IAction) obj);
+            actionMap = putInMap(actionMap,(IAction) obj);
         else if(obj instanceof IParameter)
-            putInMap(parameterMap,(IParameter) obj);
+            parameterMap = putInMap(parameterMap,(IParameter) obj);
         else if(obj instanceof IPrimitive)
-            putInMap(primitiveMap,(IPrimitive) obj);
+            primitiveMap = putInMap(primitiveMap,(IPrimitive) obj);
         else if(obj instanceof IEvent) {
-            putInMap(events, (IEvent) obj);
-            Bukkit.getPluginManager().registerEvents((IEvent) obj, Main.getInstance());
+            events = putInMap(events, (IEvent) obj);
+            if(!(obj instanceof DefaultEvents)) // default events are listened by the DefaultEventsListener
+                Bukkit.getPluginManager().registerEvents((IEvent) obj, Main.getInstance());
         }
     }
 
     /**
-     * puts the given node in the given map
+     * puts the given node in a copy of the given map
      * @param map a given map
      * @param obj a given node
      * @param <T> the node's type
+     * @return an immutable copy of the given map with the given node
+     */
+    private <T extends INode> Map<String,T> putInMap(Map<String,T> map,T obj){
+        Map<String,T> copy = new HashMap<>(map);
+        T previous = copy.put(obj.getKey(),obj);
+        putDescriptor(obj.getKey(),obj);
+        metadata.put(obj.getKey(),new NodeMetadata(obj,getDisplay(obj.getKey())));
+        if(obj instanceof IReturningNode) {
+            if(previous != null)
+                indexReturningNode((IReturningNode) previous,false);
+            indexReturningNode((IReturningNode) obj,true);
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * puts the descriptor of the given node in a copy of the descriptors
+     * @param key the node's key
+     * @param node a given node
+     */
+    private void putDescriptor(String key, INode node){
+        Map<String,NodeDescriptor> copy = new HashMap<>(descriptors);
+        copy.put(key,new NodeDescriptor(key,node));
+        descriptors = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * adds or removes the given node from the returning nodes index
+     * @param node a given returning node
+     * @param add if the node is added, otherwise removed
      */
-    private <T extends INode> void putInMap(Map<String,T> map,T obj){
-        map.put(obj.getKey(),obj);
+    private void indexReturningNode(IReturningNode node, boolean add){
+        Class type = node.getReturnType();
+        if(type == null)
+            return;
+        List<IReturningNode> nodes = returningNodes.computeIfAbsent(type,t -> new ArrayList<>());
+        if(add)
+            nodes.add(node);
+        else nodes.remove(node);
+        candidates.clear();
     }
 
     /**
      *
-     * @return a copy of the registered events map
+     * @param type a given type
+     * @return the registered primitives and parameters which return the given type or a subtype of it, primitives first and then by key.
+     * the list is unmodifiable and computed once per type
      */
-    public Map<String, IEvent> getEvents() {
-        return cloneMap(events);
+    public List<IReturningNode> getCandidates(Class type){
+        List<IReturningNode> list = candidates.get(type);
+        if(list != null)
+            return list;
+
+        List<IReturningNode> found = new ArrayList<>();
+        for (Map.Entry<Class,List<IReturningNode>> entry : returningNodes.entrySet())
+            if(type.isAssignableFrom(entry.getKey()))
+                found.addAll(entry.getValue());
+        found.sort(CANDIDATES_ORDER);
+        list = Collections.unmodifiableList(found);
+        candidates.put(type,list);
+        return list;
     }
 
     /**
      *
-     * @return a copy of the registered actions map
+     * @param key a given node key
+     * @return the given key as a display name
      */
-    public Map<String, IAction> getActionMap() {
-        return cloneMap(actionMap);
+    public String getDisplay(String key){
+        return displays.computeIfAbsent(key,NodeMetadata::toDisplay);
     }
 
+    /**
+     *
+     * @param node a given node
+     * @return the item template of the given node, created once per node key. the template should not be modified
+     */
+    public NodeItemStack getItemTemplate(INode node){
+        NodeMetadata data = getMetadata(node);
+        NodeItemStack item = data.getItem();
+        if(item == null) {
+            item = node.getItemReference();
+            data.setItem(item);
+        }
+        return item;
+    }
 
+    /**
+     *
+     * @param node a given node
+     * @return a copy of the item of the given node
+     */
+    public ItemStack getNodeItem(INode node){
+        return getItemTemplate(node).getItemStack().clone();
+    }
 
     /**
      *
-     * @return a copy of the registered parameters map
+     * @param node a given node
+     * @return the metadata of the given node, the metadata of the registered node with the same key if there is one
      */
-    public Map<String, IParameter> getParameterMap() {
-        return cloneMap(parameterMap);
+    public NodeMetadata getMetadata(INode node){
+        NodeMetadata data = metadata.get(node.getKey());
+        if(data == null) { // not computed inside the map since computing it may ask for the node's display
+            data = new NodeMetadata(node,getDisplay(node.getKey()));
+            NodeMetadata previous = metadata.putIfAbsent(node.getKey(),data);
+            if(previous != null)
+                data = previous;
+        }
+        return data;
     }
 
     /**
-     * clones a map,
-     * NOTE: only TruePrimitive is getting cloned here because cannot use clone() of Cloneable...
-     * if needed, add any parameter you want to clone in this function
-     * @param map a given map
-     * @param <T> a node type
-     * @return a new map containing the given map's objects with cloneable instances cloned
+     *
+     * @return the registered events map, immutable
+     */
+    public Map<String, IEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     *
+     * @return the registered actions map, immutable
      */
-    private <T extends INode> Map<String,T> cloneMap(Map<String,T> map){
-        Map<String,T> newMap = new HashMap<>();
-        for (String s : map.keySet())
-            if(map.get(s) instanceof TruePrimitive) // add parameters here
-                newMap.put(s, (T) ((TruePrimitive) map.get(s)).clone());
-            else if(map.get(s) instanceof EventInstance)
-                newMap.put(s, (T) ((EventInstance) map.get(s)).clone());
-                else newMap.put(s,map.get(s));
-        return newMap;
+    public Map<String, IAction> getActionMap() {
+        return actionMap;
+    }
+
+    /**
+     *
+     * @return the registered parameters map, immutable
+     */
+    public Map<String, IParameter> getParameterMap() {
+        return parameterMap;
     }
 
     /**
      *
-     * @return a copy of the registered primitives map
+     * @return the registered primitives map, immutable
      */
     public Map<String, IPrimitive> getPrimitiveMap() {
-        return new HashMap<>(primitiveMap);
+        return primitiveMap;
     }
 
     /**
      *
      * @param name a given node name
-     * @return an instance of the node with the given name
+     * @return an instance of the node with the given name, see {@link #instantiate(String)}
      */
     public INode getNodeByName(String name){
+        return instantiate(name);
+    }
 
-        //unique cases
-        switch (name){
-            case "EVENT_INSTANCE":
-                return new EventInstance(null,false,null);
-        }
-
+    /**
+     * creates an instance of the node with the given key which can be modified by the caller, see {@link NodeDescriptor#instantiate()}
+     * @param key a given node key
+     * @return an instance of the node with the given key, null if there is no such node
+     */
+    public INode instantiate(String key){
+        NodeDescriptor descriptor = getDescriptor(key);
+        return descriptor == null ? null : descriptor.instantiate();
+    }
 
-        Map map = null;
-        if(events.containsKey(name))
-            map = events;
-        else if(actionMap.containsKey(name))
-            map = actionMap;
-        else if(parameterMap.containsKey(name))
-            map = parameterMap;
-        else if(primitiveMap.containsKey(name))
-            map = primitiveMap;
-
-        if(map == null)
-            return null;
-        INode node = (INode) map.get(name);
-        if(node instanceof TruePrimitive)
-           return ((TruePrimitive) node).clone();
-        return  node;
+    /**
+     *
+     * @param key a given node key
+     * @return the descriptor of the node with the given key, null if there is no such node
+     */
+    public NodeDescriptor getDescriptor(String key){
+        return key == null ? null : descriptors.get(key);
     }
 }
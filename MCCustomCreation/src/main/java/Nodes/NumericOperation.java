@@ -0,0 +1,74 @@
+package Nodes;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * The computation of a numeric parameter* on unboxed numbers
+ *
+ * *numeric parameter - a parameter which receives one or two numbers of a single type (Integer, Long, Float or Double) and returns a number.
+ * chains of numeric parameters are executed without boxing their intermediate values, getParameter remains the generic way to execute them
+ */
+public final class NumericOperation {
+
+    /**
+     * the computation on integers, null if the operation computes on floating numbers
+     */
+    private final LongBinaryOperator integral;
+
+    /**
+     * the computation on floating numbers, null if the operation computes on integers
+     */
+    private final DoubleBinaryOperator floating;
+
+    private NumericOperation(LongBinaryOperator integral, DoubleBinaryOperator floating) {
+        this.integral = integral;
+        this.floating = floating;
+    }
+
+    /**
+     *
+     * @param operator the computation on the received integers, the second is 0 if the parameter receives a single integer
+     * @return the operation of a parameter which receives integers (Integer or Long)
+     */
+    public static NumericOperation ofLong(LongBinaryOperator operator){
+        return new NumericOperation(operator, null);
+    }
+
+    /**
+     *
+     * @param operator the computation on the received floating numbers, the second is 0 if the parameter receives a single number
+     * @return the operation of a parameter which receives floating numbers (Float or Double)
+     */
+    public static NumericOperation ofDouble(DoubleBinaryOperator operator){
+        return new NumericOperation(null, operator);
+    }
+
+    /**
+     *
+     * @return if the operation computes on integers
+     */
+    public boolean isIntegral(){
+        return integral != null;
+    }
+
+    /**
+     * computes the value of an integral operation, it is converted to the parameter's return type
+     * @param a the first received number
+     * @param b the second received number, 0 if the parameter receives a single number
+     * @return the parameter's value
+     */
+    public long applyAsLong(long a, long b){
+        return integral.applyAsLong(a, b);
+    }
+
+    /**
+     * computes the value of a floating operation, it is converted to the parameter's return type
+     * @param a the first received number
+     * @param b the second received number, 0 if the parameter receives a single number
+     * @return the parameter's value
+     */
+    public double applyAsDouble(double a, double b){
+        return floating.applyAsDouble(a, b);
+    }
+}
@@ -3,6 +3,9 @@ package Nodes.Parameters;
 import Nodes.IParameter;
 import Nodes.NodeEnum;
 import Nodes.NodeItemStack;
+import Nodes.NumericOperation;
+import Nodes.Execution.ResultCache;
+import Utility.SpatialCache;
 import com.google.common.collect.Multimap;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -21,7 +24,12 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public enum DefaultParameters implements IParameter, NodeEnum {
@@ -73,6 +81,16 @@ public enum DefaultParameters implements IParameter, NodeEnum {
         public Object getParameter(Object... objects) {
             return ((Location) objects[0]).getBlock().getBiome();
         }
+
+        @Override
+        public long getCacheTtl() {
+            return ResultCache.INSTANCE.getDefaultTtl();
+        }
+
+        @Override
+        public Object getCacheKey(Object... objects) {
+            return locationKey((Location) objects[0], 2, null);
+        }
     },
     GET_BLOCK_AT_LOCATION("The block at a location.", null, "GET_BLOCK_AT_LOCATION", Block.class, new Class[]{Location.class}, new String[]{""}) {
         @Override
@@ -228,16 +246,13 @@ public enum DefaultParameters implements IParameter, NodeEnum {
     GET_ENTITY_NEARBY_ENTITIES("A list of all entity nearby entities within a certain range.", null, "GET_ENTITY_NEARBY_ENTITIES", List.class, new Class[]{Entity.class, Double.class, Double.class, Double.class}, new String[]{"", "x offset", "y offset", "z offset"}) {
         @Override
         public Object getParameter(Object... objects) {
-            List<Entity> entities = ((Entity) objects[0]).getNearbyEntities((Double) objects[1], (Double) objects[2], (Double) objects[3]);
-            entities.remove(0);
-            return entities;
+            return SpatialCache.INSTANCE.getNearbyEntities((Entity) objects[0], (Double) objects[1], (Double) objects[2], (Double) objects[3]);
         }
     },
-    GET_ENTITY_NEAREST_ENTITY("The nearest entity to an entity", null, "GET_ENTITY_NEAREST_ENTITY", List.class, new Class[]{Entity.class, Double.class, Double.class, Double.class}, new String[]{"", "x offset", "y offset", "z offset"}) {
+    GET_ENTITY_NEAREST_ENTITY("The nearest entity to an entity", null, "GET_ENTITY_NEAREST_ENTITY", Entity.class, new Class[]{Entity.class, Double.class, Double.class, Double.class}, new String[]{"", "x offset", "y offset", "z offset"}) {
         @Override
         public Object getParameter(Object... objects) {
-            List<Entity> entities = ((Entity) objects[0]).getNearbyEntities((Double) objects[1], (Double) objects[2], (Double) objects[3]);
-            entities.remove(0);
+            List<Entity> entities = SpatialCache.INSTANCE.getNearestEntities((Entity) objects[0], (Double) objects[1], (Double) objects[2], (Double) objects[3], 1);
             if (entities.isEmpty())
                 return null;
             return entities.get(0);
@@ -300,9 +315,7 @@ public enum DefaultParameters implements IParameter, NodeEnum {
     GET_FILTERED_LIST_OF_NEARBY_ENTITIES_OF_LOCATION("A list of nearby entities from a location but filtered by EntiyType.", null, "GET_FILTERED_LIST_OF_NEARBY_ENTITIES_OF_LOCATION", List.class, new Class[]{Location.class, Double.class, Double.class, Double.class, EntityType.class}, new String[]{"", "x offset", "y offset", "z offset", "The entity type filter"}) {
         @Override
         public Object getParameter(Object... objects) {
-            Location loc = ((Location) objects[0]);
-
-            return loc.getWorld().getNearbyEntities(loc, (Double) objects[1], (Double) objects[2], (Double) objects[3], entity -> entity.getType().equals(objects[4]));
+            return SpatialCache.INSTANCE.getNearbyEntities((Location) objects[0], (Double) objects[1], (Double) objects[2], (Double) objects[3], (EntityType) objects[4]);
         }
     },
     GET_FIRST_LINE_OF_SIGHT_ENTITY("The entity which this entity looks at.", null, "GET_FIRST_LINE_OF_SIGHT_ENTITY", Entity.class, new Class[]{LivingEntity.class, Double.class}, new String[]{"The entity which is looking", "The range"}) {
@@ -870,8 +883,7 @@ public enum DefaultParameters implements IParameter, NodeEnum {
     GET_LIST_OF_NEARBY_ENTITIES_OF_LOCATION("A list of nearby entities from a location.", null, "GET_LIST_OF_NEARBY_ENTITIES_OF_LOCATION", List.class, new Class[]{Location.class, Double.class, Double.class, Double.class}, new String[]{"", "x offset", "y offset", "z offset"}) {
         @Override
         public Object getParameter(Object... objects) {
-            Location loc = ((Location) objects[0]);
-            return loc.getWorld().getNearbyEntities(loc, (Double) objects[1], (Double) objects[2], (Double) objects[3]);
+            return SpatialCache.INSTANCE.getNearbyEntities((Location) objects[0], (Double) objects[1], (Double) objects[2], (Double) objects[3], null);
         }
     },
     GET_LIVING_ENTITY_ABSORPTION_AMOUNT("The entity's absorption hearts (This effect given by golden apple, or code).", null, "GET_LIVING_ENTITY_ABSORPTION_AMOUNT", Double.class, new Class[]{LivingEntity.class}, new String[]{""}) {
@@ -1023,6 +1035,16 @@ public enum DefaultParameters implements IParameter, NodeEnum {
             Location result = loc.getWorld().locateNearestStructure(loc, (StructureType) objects[1], Integer.MAX_VALUE, true).getLocation();
             return result.getWorld().getHighestBlockAt(result).getLocation();
         }
+
+        @Override
+        public long getCacheTtl() {
+            return ResultCache.INSTANCE.getDefaultTtl();
+        }
+
+        @Override
+        public Object getCacheKey(Object... objects) {
+            return locationKey((Location) objects[0], 4, objects[1]);
+        }
     },
     GET_NEAREST_RAID_LOCATION("The nearest raid location from a location.", null, "GET_NEAREST_RAID_LOCATION", Location.class, new Class[]{Location.class}, new String[]{""}) {
         @Override
@@ -1030,6 +1052,16 @@ public enum DefaultParameters implements IParameter, NodeEnum {
             Location loc = ((Location) objects[0]);
             return loc.getWorld().locateNearestRaid(loc, Integer.MAX_VALUE);
         }
+
+        @Override
+        public long getCacheTtl() {
+            return ResultCache.INSTANCE.getDefaultTtl();
+        }
+
+        @Override
+        public Object getCacheKey(Object... objects) {
+            return locationKey((Location) objects[0], 4, null);
+        }
     },
     GET_OBJECT_DISPLAY_STRING("The toString of an object, this will convert any object to a string.", null, "GET_OBJECT_DISPLAY_STRING", String.class, new Class[]{Object.class}, new String[]{""}) {
         @Override
@@ -1663,6 +1695,54 @@ public enum DefaultParameters implements IParameter, NodeEnum {
     //TODO add primitives actions (like NOT, and equals)
     ;
 
+    /**
+     * the pure parameters, their values only depend on their received objects
+     */
+    private static final Set<DefaultParameters> PURE = EnumSet.of(
+            ADD_VECTOR_TO_LOCATION, CONVERT_LOCATION_TO_VECTOR, GET_DIRECTION_OF_LOCATION, GET_DISTANCE_BETWEEN_LOCATIONS,
+            GET_LOCATION_PITCH, GET_LOCATION_X_CORD, GET_LOCATION_YAW, GET_LOCATION_Y_CORD, GET_LOCATION_Z_CORD,
+            GET_MATERIAL_MAX_STACK_SIZE, GET_OBJECT_DISPLAY_STRING, NORMALIZE_PITCH, NORMALIZE_YAW,
+            SET_LOCATION_DIRECTION, SET_LOCATION_PITCH, SET_LOCATION_WORLD, SET_LOCATION_X_CORD, SET_LOCATION_YAW, SET_LOCATION_Y_CORD, SET_LOCATION_Z_CORD,
+            RAW_VECTOR, RAW_LOCATION,
+            CAST_ENTITY_TO_PLAYER, CAST_ENTITY_TO_LIVING_ENTITY, CAST_DOUBLE_TO_INTEGER, CAST_DOUBLE_TO_FLOAT, CAST_FLOAT_TO_DOUBLE, CAST_INTEGER_TO_DOUBLE,
+            ADD_TO_VECTOR, SUBTRACT_VECTOR, MULTIPLY_VECTOR, DIVIDE_VECTOR, NORMALIZE_VECTOR, MIDPOINT_VECTOR,
+            BOOLEAN_NOT, BOOLEAN_EQUALS,
+            ADD_INTEGER, SUBTRACT_INTEGER, MULTIPLY_INTEGER, DIVIDE_INTEGER, MODULUS_INTEGER, MAX_OF_INTEGERS, MIN_OF_INTEGERS,
+            ADD_DOUBLE, SUBTRACT_DOUBLE, MULTIPLY_DOUBLE, DIVIDE_DOUBLE, MAX_OF_DOUBLES, MIN_OF_DOUBLES,
+            ADD_FLOAT, SUBTRACT_FLOAT, MULTIPLY_FLOAT, DIVIDE_FLOAT, MAX_OF_FLOATS, MIN_OF_FLOATS
+    );
+
+    /**
+     * the operations of the numeric parameters, they compute their values on unboxed numbers
+     */
+    private static final Map<DefaultParameters, NumericOperation> NUMERIC = new EnumMap<>(DefaultParameters.class);
+
+    static {
+        NUMERIC.put(CAST_DOUBLE_TO_INTEGER, NumericOperation.ofDouble((a, b) -> a));
+        NUMERIC.put(CAST_DOUBLE_TO_FLOAT, NumericOperation.ofDouble((a, b) -> a));
+        NUMERIC.put(CAST_FLOAT_TO_DOUBLE, NumericOperation.ofDouble((a, b) -> a));
+        NUMERIC.put(CAST_INTEGER_TO_DOUBLE, NumericOperation.ofLong((a, b) -> a));
+        NUMERIC.put(ADD_INTEGER, NumericOperation.ofLong((a, b) -> a + b));
+        NUMERIC.put(SUBTRACT_INTEGER, NumericOperation.ofLong((a, b) -> a - b));
+        NUMERIC.put(MULTIPLY_INTEGER, NumericOperation.ofLong((a, b) -> a * b));
+        NUMERIC.put(DIVIDE_INTEGER, NumericOperation.ofLong((a, b) -> a / b));
+        NUMERIC.put(MODULUS_INTEGER, NumericOperation.ofLong((a, b) -> a % b));
+        NUMERIC.put(MAX_OF_INTEGERS, NumericOperation.ofLong((a, b) -> Math.max(a, b)));
+        NUMERIC.put(MIN_OF_INTEGERS, NumericOperation.ofLong((a, b) -> Math.min(a, b)));
+        NUMERIC.put(ADD_DOUBLE, NumericOperation.ofDouble((a, b) -> a + b));
+        NUMERIC.put(SUBTRACT_DOUBLE, NumericOperation.ofDouble((a, b) -> a - b));
+        NUMERIC.put(MULTIPLY_DOUBLE, NumericOperation.ofDouble((a, b) -> a * b));
+        NUMERIC.put(DIVIDE_DOUBLE, NumericOperation.ofDouble((a, b) -> a / b));
+        NUMERIC.put(MAX_OF_DOUBLES, NumericOperation.ofDouble((a, b) -> Math.max(a, b)));
+        NUMERIC.put(MIN_OF_DOUBLES, NumericOperation.ofDouble((a, b) -> Math.min(a, b)));
+        NUMERIC.put(ADD_FLOAT, NumericOperation.ofDouble((a, b) -> a + b));
+        NUMERIC.put(SUBTRACT_FLOAT, NumericOperation.ofDouble((a, b) -> a - b));
+        NUMERIC.put(MULTIPLY_FLOAT, NumericOperation.ofDouble((a, b) -> a * b));
+        NUMERIC.put(DIVIDE_FLOAT, NumericOperation.ofDouble((a, b) -> a / b));
+        NUMERIC.put(MAX_OF_FLOATS, NumericOperation.ofDouble((a, b) -> Math.max(a, b)));
+        NUMERIC.put(MIN_OF_FLOATS, NumericOperation.ofDouble((a, b) -> Math.min(a, b)));
+    }
+
     /**
      * The default parameter material
      */
@@ -1758,5 +1838,34 @@ public enum DefaultParameters implements IParameter, NodeEnum {
         return this.description;
     }
 
+    @Override
+    public boolean isPure() {
+        return PURE.contains(this);
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return this != RANDOM;
+    }
+
+    /**
+     *
+     * @param location a given location
+     * @param shift the amount of bits the block coordinates are shifted by, so nearby locations share a key
+     * @param extra another value the key depends on, null if none
+     * @return the cache key of the given location's world and coarse position, null if the location has no world
+     */
+    private static Object locationKey(Location location, int shift, Object extra){
+        World world = location.getWorld();
+        if(world == null)
+            return null;
+        return Arrays.asList(world.getUID(), location.getBlockX() >> shift, location.getBlockY() >> shift, location.getBlockZ() >> shift, extra);
+    }
+
+    @Override
+    public NumericOperation getNumericOperation() {
+        return NUMERIC.get(this);
+    }
+
 
 }
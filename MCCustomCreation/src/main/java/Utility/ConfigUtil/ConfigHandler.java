@@ -33,7 +33,7 @@ public class ConfigHandler extends YmlManager{
      */
     public static class Settings{
         /**
-         * FileManagerType - String, the file type of a manager which the plugin will use
+         * FileManagerType - String, the file type of a manager which the plugin will use (YAML, BINARY or DIRECTORY)
          */
         public static final Setting FileManagerType = new Setting("FileManagerType","YAML");
 
@@ -42,6 +42,57 @@ public class ConfigHandler extends YmlManager{
          */
         public static final Setting MessageLogging = new Setting("MessageLogging",true);
 
+        /**
+         * AutoSaveDelay - Integer, ticks to wait after a creation change before saving it, changes made in between are saved together.
+         * a negative value disables the autosave, so creations are saved only when the plugin is disabled
+         */
+        public static final Setting AutoSaveDelay = new Setting("AutoSaveDelay",100);
+
+        /**
+         * LazyLoading - Boolean, if creations should be loaded only once they are used instead of all at startup
+         */
+        public static final Setting LazyLoading = new Setting("LazyLoading",false);
+
+        /**
+         * MaxLoadedCreations - Integer, the maximum amount of loaded creations when loading lazily,
+         * the least recently used creations beyond it are unloaded
+         */
+        public static final Setting MaxLoadedCreations = new Setting("MaxLoadedCreations",500);
+
+        /**
+         * Profiling - Boolean, if the execution of the creations should be profiled from startup, can be toggled with the profile command
+         */
+        public static final Setting Profiling = new Setting("Profiling",false);
+
+        /**
+         * ProfileDumpInterval - Integer, seconds between writes of the profile report to the profile file while profiling,
+         * a value of 0 or less disables the file
+         */
+        public static final Setting ProfileDumpInterval = new Setting("ProfileDumpInterval",300);
+
+        /**
+         * TickBudget - Double, milliseconds the creations' functions may execute in every tick, the functions beyond it are
+         * deferred to the following ticks. a value of 0 or less executes all functions immediately
+         */
+        public static final Setting TickBudget = new Setting("TickBudget",0);
+
+        /**
+         * MaxDeferredExecutions - Integer, the maximum amount of deferred executions, further executions are dropped
+         */
+        public static final Setting MaxDeferredExecutions = new Setting("MaxDeferredExecutions",1000);
+
+        /**
+         * ParameterCacheTTL - Double, seconds the values of expensive parameters, such as structure locations, are cached for.
+         * a value of 0 or less disables their caching, which is the default so creations always see the current values
+         */
+        public static final Setting ParameterCacheTTL = new Setting("ParameterCacheTTL",0);
+
+        /**
+         * ParameterCacheSize - Integer, the maximum amount of cached parameter values, the least recently used are evicted.
+         * a value of 0 or less disables the cache
+         */
+        public static final Setting ParameterCacheSize = new Setting("ParameterCacheSize",1000);
+
         /**
          *
          * @return all the settings
@@ -49,7 +100,16 @@ public class ConfigHandler extends YmlManager{
         public static List<Setting> getAllSettings(){
             return Arrays.asList(
                     FileManagerType,
-                    MessageLogging
+                    MessageLogging,
+                    AutoSaveDelay,
+                    LazyLoading,
+                    MaxLoadedCreations,
+                    Profiling,
+                    ProfileDumpInterval,
+                    TickBudget,
+                    MaxDeferredExecutions,
+                    ParameterCacheTTL,
+                    ParameterCacheSize
             );
         }
     }
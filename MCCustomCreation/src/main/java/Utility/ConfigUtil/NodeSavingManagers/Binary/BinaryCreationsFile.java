@@ -0,0 +1,217 @@
+package Utility.ConfigUtil.NodeSavingManagers.Binary;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static Utility.ConfigUtil.NodeSavingManagers.Binary.BinaryFormat.*;
+
+/**
+ * Reads and writes binary creations files, a file holds the length prefixed body of every creation
+ */
+public class BinaryCreationsFile {
+
+    /**
+     * the buffer size used to read a creation's name, the header and name are small so the body is barely read
+     */
+    private static final int NAME_BUFFER_SIZE = 512;
+
+    private BinaryCreationsFile(){}
+
+    /**
+     *
+     * @param file a given file
+     * @return the bodies of the file's creations by their name, empty if the file does not exist
+     * @throws IOException if the file is malformed or could not be read
+     */
+    public static Map<String, byte[]> read(File file) throws IOException {
+        Map<String, byte[]> bodies = new LinkedHashMap<>();
+        if(!file.exists())
+            return bodies;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            readHeader(in, file);
+            int count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                byte[] body = new byte[in.readInt()];
+                in.readFully(body);
+                bodies.put(name, body);
+            }
+        }
+        return bodies;
+    }
+
+    /**
+     * reads only the location of every creation body in the given file, the bodies themselves are skipped
+     * @param file a given file
+     * @return the offset and length of the file's creation bodies by their name, empty if the file does not exist
+     * @throws IOException if the file is malformed or could not be read
+     */
+    public static Map<String, long[]> readIndex(File file) throws IOException {
+        Map<String, long[]> index = new LinkedHashMap<>();
+        if(!file.exists())
+            return index;
+
+        try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            DataInputStream in = new DataInputStream(counter);
+            readHeader(in, file);
+            int count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                String name = readString(in);
+                int length = in.readInt();
+                index.put(name, new long[]{counter.getCount(), length});
+                ByteStreams.skipFully(in, length);
+            }
+        }
+        return index;
+    }
+
+    /**
+     *
+     * @param file a given file
+     * @param offset the body's offset in the file
+     * @param length the body's length
+     * @return the body at the given location of the file
+     * @throws IOException if the body could not be read
+     */
+    public static byte[] readBody(File file, long offset, int length) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            byte[] body = new byte[length];
+            in.seek(offset);
+            in.readFully(body);
+            return body;
+        }
+    }
+
+    /**
+     * writes the given creation bodies to the given file, the file is replaced only once it is fully written
+     * @param file a given file
+     * @param bodies the bodies of the creations by their name
+     * @return the offset and length of the written creation bodies by their name
+     * @throws IOException if the file could not be written
+     */
+    public static Map<String, long[]> write(File file, Map<String, byte[]> bodies) throws IOException {
+        Map<String, long[]> index = new LinkedHashMap<>();
+        writeAtomically(file, out -> {
+            writeHeader(out);
+            writeVarInt(out, bodies.size());
+            for (Map.Entry<String, byte[]> entry : bodies.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().length);
+                index.put(entry.getKey(), new long[]{out.size(), entry.getValue().length});
+                out.write(entry.getValue());
+            }
+        });
+        return index;
+    }
+
+    /**
+     * reads a file holding a single creation
+     * @param file a given file
+     * @return the creation's name and body
+     * @throws IOException if the file is malformed or could not be read
+     */
+    public static Map.Entry<String, byte[]> readCreation(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            readHeader(in, file);
+            String name = readString(in);
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new AbstractMap.SimpleImmutableEntry<>(name, body);
+        }
+    }
+
+    /**
+     * reads only the name of a file holding a single creation, its body is not read
+     * @param file a given file
+     * @return the creation's name
+     * @throws IOException if the file is malformed or could not be read
+     */
+    public static String readCreationName(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), NAME_BUFFER_SIZE))) {
+            readHeader(in, file);
+            return readString(in);
+        }
+    }
+
+    /**
+     * writes a file holding a single creation, the file is replaced only once it is fully written
+     * @param file a given file
+     * @param name the creation's name
+     * @param body the creation's body
+     * @throws IOException if the file could not be written
+     */
+    public static void writeCreation(File file, String name, byte[] body) throws IOException {
+        writeAtomically(file, out -> {
+            writeHeader(out);
+            writeString(out, name);
+            out.writeInt(body.length);
+            out.write(body);
+        });
+    }
+
+    /**
+     * writes the format's header
+     * @param out a given output
+     * @throws IOException if the write failed
+     */
+    public static void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+
+    /**
+     * reads and validates the format's header
+     * @param in a given input
+     * @param file the read file
+     * @throws IOException if the header is not of a supported version of the format
+     */
+    public static void readHeader(DataInput in, File file) throws IOException {
+        if(in.readInt() != MAGIC)
+            throw new IOException(file + " is not a binary creations file");
+        short version = in.readShort();
+        if(version > VERSION)
+            throw new IOException(file + " was written by a newer version (" + version + ") of the binary creations format");
+    }
+
+    /**
+     * writes the given file through a temporary file which is then moved in place of the file
+     * @param file a given file
+     * @param writer the file's content writer
+     * @throws IOException if the file could not be written
+     */
+    public static void writeAtomically(File file, ContentWriter writer) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if(parent != null && !parent.exists())
+            parent.mkdirs();
+        File temp = new File(parent, file.getName() + ".tmp");
+
+        try (FileOutputStream fileOut = new FileOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            writer.write(out);
+            out.flush();
+            fileOut.getFD().sync();
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * writes a file's content
+     */
+    public interface ContentWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,108 @@
+package Utility.ConfigUtil.NodeSavingManagers.Binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The constants and the low level encodings of the binary creations format.
+ *
+ * A file is: MAGIC, VERSION, the creations count, then for every creation its name and its length prefixed body.
+ * A body is: its string table (node keys, class names and string values), the event trees count, then the event trees.
+ */
+public final class BinaryFormat {
+
+    /**
+     * The format's magic number, "MCCB"
+     */
+    public static final int MAGIC = 0x4D434342;
+
+    /**
+     * The format's current version
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * tree kinds
+     */
+    public static final byte KIND_NULL = 0;
+    public static final byte KIND_NODE = 1;
+    public static final byte KIND_EVENT = 2;
+    public static final byte KIND_PRIMITIVE = 3;
+
+    /**
+     * primitive value tags
+     */
+    public static final byte VALUE_NULL = 0;
+    public static final byte VALUE_INTEGER = 1;
+    public static final byte VALUE_LONG = 2;
+    public static final byte VALUE_DOUBLE = 3;
+    public static final byte VALUE_FLOAT = 4;
+    public static final byte VALUE_BYTE = 5;
+    public static final byte VALUE_SHORT = 6;
+    public static final byte VALUE_BOOLEAN = 7;
+    public static final byte VALUE_STRING = 8;
+    public static final byte VALUE_ENUM = 9;
+    /**
+     * a value without a typed encoding, stored as the bytes of Serializations
+     */
+    public static final byte VALUE_SERIALIZED = 10;
+
+    private BinaryFormat(){}
+
+    /**
+     * writes the given non negative int in a variable length
+     * @param out a given output
+     * @param value a given non negative value
+     * @throws IOException if the write failed
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     *
+     * @param in a given input
+     * @return the read variable length int
+     * @throws IOException if the read failed
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Malformed variable length int");
+    }
+
+    /**
+     * writes the given string as a length prefixed UTF-8 string
+     * @param out a given output
+     * @param str a given string
+     * @throws IOException if the write failed
+     */
+    public static void writeString(DataOutput out, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     *
+     * @param in a given input
+     * @return the read length prefixed UTF-8 string
+     * @throws IOException if the read failed
+     */
+    public static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,176 @@
+package Utility.ConfigUtil.NodeSavingManagers.Binary;
+
+import Nodes.Events.EventInstance;
+import Nodes.Events.IEvent;
+import Nodes.FunctionTree;
+import Nodes.INode;
+import Nodes.NodesHandler;
+import Nodes.TruePrimitive;
+import Utility.ConfigUtil.Serialization.Serializations;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static Utility.ConfigUtil.NodeSavingManagers.Binary.BinaryFormat.*;
+
+/**
+ * Decodes a creation's binary body into its event trees, the trees are built the same way FunctionTree.deserialize builds them
+ */
+public class CreationDecoder {
+
+    /**
+     * the body's input
+     */
+    private final DataInputStream in;
+
+    /**
+     * the body's string table, index 0 is null
+     */
+    private final String[] strings;
+
+    /**
+     * the decoded creation's name
+     */
+    private final String creation;
+
+    private CreationDecoder(byte[] body, String creation) throws IOException {
+        this.in = new DataInputStream(new ByteArrayInputStream(body));
+        this.creation = creation;
+        this.strings = new String[readVarInt(in) + 1];
+        for (int i = 1; i < strings.length; i++)
+            strings[i] = readString(in);
+    }
+
+    /**
+     *
+     * @param body a given creation body
+     * @param creation the creation's name
+     * @return the creation's event trees
+     * @throws IOException if the body is malformed or a value could not be decoded
+     */
+    public static List<FunctionTree> decode(byte[] body, String creation) throws IOException {
+        CreationDecoder decoder = new CreationDecoder(body, creation);
+        int count = readVarInt(decoder.in);
+        List<FunctionTree> trees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            trees.add(decoder.readTree(null));
+        return trees;
+    }
+
+    /**
+     *
+     * @param prev the previous tree of the read tree
+     * @return the read tree
+     * @throws IOException if the read failed
+     */
+    private FunctionTree readTree(FunctionTree prev) throws IOException {
+        byte kind = in.readByte();
+        FunctionTree tree;
+        switch (kind) {
+            case KIND_NULL:
+                return null;
+            case KIND_NODE:
+                tree = new FunctionTree(getNode(readIndexed()), null, prev);
+                break;
+            case KIND_EVENT:
+                INode event = getNode(readIndexed());
+                tree = new FunctionTree(new EventInstance(event instanceof IEvent ? (IEvent) event : null, in.readBoolean(), creation), null, prev);
+                break;
+            case KIND_PRIMITIVE:
+                INode node = getNode(readIndexed());
+                String className = readIndexed();
+                Object value = readValue(className);
+                if(node instanceof TruePrimitive)
+                    ((TruePrimitive) node).setValue(value);
+                return new FunctionTree(node, null, prev);
+            default:
+                throw new IOException("Unknown tree kind " + kind + " in creation " + creation);
+        }
+
+        int count = readVarInt(in);
+        if(count == 0)
+            return tree;
+        FunctionTree[] next = new FunctionTree[count];
+        for (int i = 0; i < count; i++)
+            next[i] = readTree(tree);
+        tree.setNext(next);
+        return tree;
+    }
+
+    /**
+     *
+     * @param className the name of the value's class
+     * @return the read value
+     * @throws IOException if the read failed
+     */
+    private Object readValue(String className) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_INTEGER:
+                return in.readInt();
+            case VALUE_LONG:
+                return in.readLong();
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_FLOAT:
+                return in.readFloat();
+            case VALUE_BYTE:
+                return in.readByte();
+            case VALUE_SHORT:
+                return in.readShort();
+            case VALUE_BOOLEAN:
+                return in.readBoolean();
+            case VALUE_STRING:
+                return readIndexed();
+            case VALUE_ENUM:
+                Class enumClass = forName(readIndexed());
+                return Enum.valueOf(enumClass, readIndexed());
+            case VALUE_SERIALIZED:
+                byte[] bytes = new byte[readVarInt(in)];
+                in.readFully(bytes);
+                return Serializations.deserialize(bytes, forName(className));
+            default:
+                throw new IOException("Unknown value tag " + tag + " in creation " + creation);
+        }
+    }
+
+    /**
+     *
+     * @return the string of the read string table index
+     * @throws IOException if the read failed
+     */
+    private String readIndexed() throws IOException {
+        int index = readVarInt(in);
+        if(index >= strings.length)
+            throw new IOException("String index " + index + " is out of the string table in creation " + creation);
+        return strings[index];
+    }
+
+    /**
+     *
+     * @param key a given node key
+     * @return an instance of the node with the given key
+     */
+    private static INode getNode(String key){
+        return key == null ? null : NodesHandler.INSTANCE.instantiate(key);
+    }
+
+    /**
+     *
+     * @param className a given class name
+     * @return the class of the given name
+     * @throws IOException if there is no such class
+     */
+    private Class forName(String className) throws IOException {
+        try {
+            return Serializations.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown class " + className + " in creation " + creation, e);
+        }
+    }
+}
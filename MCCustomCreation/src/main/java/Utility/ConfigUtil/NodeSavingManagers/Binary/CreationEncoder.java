@@ -0,0 +1,274 @@
+package Utility.ConfigUtil.NodeSavingManagers.Binary;
+
+import Nodes.Events.EventInstance;
+import Nodes.FunctionTree;
+import Nodes.INode;
+import Nodes.TruePrimitive;
+import Utility.ConfigUtil.Serialization.Serializations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static Utility.ConfigUtil.NodeSavingManagers.Binary.BinaryFormat.*;
+
+/**
+ * Encodes a creation's event trees into a binary body.
+ * every string is written once in the body's string table and referenced by its index, index 0 is null
+ */
+public class CreationEncoder {
+
+    /**
+     * the body's string table
+     */
+    private final List<String> strings;
+
+    /**
+     * the index of each string in the string table
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * the encoded trees
+     */
+    private final ByteArrayOutputStream treesBytes;
+    private final DataOutputStream trees;
+
+    private CreationEncoder() {
+        this.strings = new ArrayList<>();
+        this.indexes = new HashMap<>();
+        this.treesBytes = new ByteArrayOutputStream();
+        this.trees = new DataOutputStream(treesBytes);
+    }
+
+    /**
+     *
+     * @param eventTrees a creation's event trees
+     * @return the body of the given event trees
+     * @throws IOException if the encoding failed
+     */
+    public static byte[] encode(List<FunctionTree> eventTrees) throws IOException {
+        CreationEncoder encoder = new CreationEncoder();
+        writeVarInt(encoder.trees, eventTrees.size());
+        for (FunctionTree tree : eventTrees)
+            encoder.writeTree(tree);
+        return encoder.toByteArray();
+    }
+
+    /**
+     * encodes event trees in their serialized form (as made by FunctionTree.serialize),
+     * the nodes are not resolved so nodes which are not registered are kept as they are
+     * @param eventTrees a creation's serialized event trees
+     * @return the body of the given event trees
+     * @throws IOException if the encoding failed
+     */
+    public static byte[] encodeSerialized(List<Map<String, Object>> eventTrees) throws IOException {
+        CreationEncoder encoder = new CreationEncoder();
+        writeVarInt(encoder.trees, eventTrees.size());
+        for (Map<String, Object> tree : eventTrees)
+            encoder.writeSerializedTree(tree);
+        return encoder.toByteArray();
+    }
+
+    /**
+     * writes the given tree the same way FunctionTree.serialize serializes it
+     * @param tree a given tree
+     * @throws IOException if the write failed
+     */
+    private void writeTree(FunctionTree tree) throws IOException {
+        if(tree == null || tree.getCurrent() == null) {
+            trees.writeByte(KIND_NULL);
+            return;
+        }
+
+        Object current = tree.getCurrent();
+        if(current instanceof EventInstance) {
+            trees.writeByte(KIND_EVENT);
+            writeIndex(((EventInstance) current).getKey());
+            trees.writeBoolean(((EventInstance) current).isCancelled());
+        } else if(current instanceof TruePrimitive) {
+            TruePrimitive prim = (TruePrimitive) current;
+            trees.writeByte(KIND_PRIMITIVE);
+            writeIndex(prim.getKey());
+            writeIndex(prim.getReturnType().getName());
+            writeValue(prim.getValue());
+            return;
+        } else {
+            trees.writeByte(KIND_NODE);
+            writeIndex(((INode) current).getKey());
+        }
+
+        FunctionTree[] next = tree.getNext();
+        writeVarInt(trees, next == null ? 0 : next.length);
+        if(next != null)
+            for (FunctionTree functionTree : next)
+                writeTree(functionTree);
+    }
+
+    /**
+     * writes the given serialized tree
+     * @param map a given serialized tree
+     * @throws IOException if the write failed
+     */
+    private void writeSerializedTree(Map<String, Object> map) throws IOException {
+        if(map == null) {
+            trees.writeByte(KIND_NULL);
+            return;
+        }
+
+        if(map.containsKey("Event")) {
+            trees.writeByte(KIND_EVENT);
+            writeIndex((String) map.get("Event"));
+            trees.writeBoolean(Boolean.TRUE.equals(map.get("Cancelled")));
+        } else if(map.containsKey("Class")) {
+            String className = (String) map.get("Class");
+            trees.writeByte(KIND_PRIMITIVE);
+            writeIndex((String) map.get("Name"));
+            writeIndex(className);
+            writeSerializedValue((byte[]) map.get("Value"), className);
+            return;
+        } else {
+            trees.writeByte(KIND_NODE);
+            writeIndex((String) map.get("Name"));
+        }
+
+        List<Map<String, Object>> values = (List) map.get("Values");
+        writeVarInt(trees, values == null ? 0 : values.size());
+        if(values != null)
+            for (Map<String, Object> value : values)
+                writeSerializedTree(value);
+    }
+
+    /**
+     * writes the given value with its typed encoding
+     * @param value a given value
+     * @throws IOException if the write failed
+     */
+    private void writeValue(Object value) throws IOException {
+        if(value == null)
+            trees.writeByte(VALUE_NULL);
+        else if(value instanceof Integer) {
+            trees.writeByte(VALUE_INTEGER);
+            trees.writeInt((Integer) value);
+        } else if(value instanceof Long) {
+            trees.writeByte(VALUE_LONG);
+            trees.writeLong((Long) value);
+        } else if(value instanceof Double) {
+            trees.writeByte(VALUE_DOUBLE);
+            trees.writeDouble((Double) value);
+        } else if(value instanceof Float) {
+            trees.writeByte(VALUE_FLOAT);
+            trees.writeFloat((Float) value);
+        } else if(value instanceof Byte) {
+            trees.writeByte(VALUE_BYTE);
+            trees.writeByte((Byte) value);
+        } else if(value instanceof Short) {
+            trees.writeByte(VALUE_SHORT);
+            trees.writeShort((Short) value);
+        } else if(value instanceof Boolean) {
+            trees.writeByte(VALUE_BOOLEAN);
+            trees.writeBoolean((Boolean) value);
+        } else if(value instanceof String) {
+            trees.writeByte(VALUE_STRING);
+            writeIndex((String) value);
+        } else if(value instanceof Enum) {
+            trees.writeByte(VALUE_ENUM);
+            writeIndex(((Enum) value).getDeclaringClass().getName());
+            writeIndex(((Enum) value).name());
+        } else writeSerializedBytes(Serializations.serialize(value));
+    }
+
+    /**
+     * writes a value serialized by Serializations, values with a typed encoding are written typed
+     * and any other value keeps its serialized bytes
+     * @param bytes the value's serialized bytes
+     * @param className the name of the value's class
+     * @throws IOException if the write failed
+     */
+    private void writeSerializedValue(byte[] bytes, String className) throws IOException {
+        if(bytes == null) {
+            trees.writeByte(VALUE_NULL);
+            return;
+        }
+
+        try {
+            Class clazz = Serializations.forName(className);
+            if(hasTypedEncoding(clazz)) {
+                Object value = Serializations.deserialize(bytes, clazz);
+                if(value != null) {
+                    writeValue(value);
+                    return;
+                }
+            }
+        } catch (ClassNotFoundException ignored) {
+            // written as is
+        }
+        writeSerializedBytes(bytes);
+    }
+
+    /**
+     * writes serialized bytes
+     * @param bytes given serialized bytes
+     * @throws IOException if the write failed
+     */
+    private void writeSerializedBytes(byte[] bytes) throws IOException {
+        if(bytes == null) {
+            trees.writeByte(VALUE_NULL);
+            return;
+        }
+        trees.writeByte(VALUE_SERIALIZED);
+        writeVarInt(trees, bytes.length);
+        trees.write(bytes);
+    }
+
+    /**
+     *
+     * @param clazz a given class
+     * @return if values of the given class are written with a typed encoding
+     */
+    private static boolean hasTypedEncoding(Class clazz){
+        return clazz.isEnum() || clazz == Integer.class || clazz == Long.class || clazz == Double.class
+                || clazz == Float.class || clazz == Byte.class || clazz == Short.class
+                || clazz == Boolean.class || clazz == String.class;
+    }
+
+    /**
+     * writes the string table index of the given string
+     * @param str a given string
+     * @throws IOException if the write failed
+     */
+    private void writeIndex(String str) throws IOException {
+        if(str == null) {
+            writeVarInt(trees, 0);
+            return;
+        }
+        Integer index = indexes.get(str);
+        if(index == null) {
+            strings.add(str);
+            index = strings.size();
+            indexes.put(str, index);
+        }
+        writeVarInt(trees, index);
+    }
+
+    /**
+     *
+     * @return the body, the string table followed by the trees
+     * @throws IOException if the write failed
+     */
+    private byte[] toByteArray() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(treesBytes.size() + strings.size() * 16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeVarInt(out, strings.size());
+        for (String string : strings)
+            writeString(out, string);
+        trees.flush();
+        treesBytes.writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
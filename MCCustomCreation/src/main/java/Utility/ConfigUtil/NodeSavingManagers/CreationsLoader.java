@@ -0,0 +1,160 @@
+package Utility.ConfigUtil.NodeSavingManagers;
+
+import Nodes.Events.IEvent;
+import Nodes.FunctionTree;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * loads all the creations of a file manager in parallel, each creation is retrieved and deserialized on its own task
+ */
+public class CreationsLoader {
+
+    /**
+     * the amount of slowest creations reported after a load
+     */
+    private static final int REPORTED_SLOWEST = 5;
+
+    /**
+     * Singleton implementation
+     */
+    public static final CreationsLoader INSTANCE = new CreationsLoader();
+    private CreationsLoader(){}
+
+    /**
+     * loads all the creations of the given file manager, the calling thread waits until every creation is loaded
+     * @param fileManager a given file manager
+     * @return the result of the load
+     */
+    public Result load(INodeFileManager fileManager){
+        long start = System.nanoTime();
+        List<String> names = new ArrayList<>(fileManager.getCreationNames());
+        Map<String, Map<IEvent, List<FunctionTree>>> creations = new ConcurrentHashMap<>();
+        Map<String, Long> loadTimes = new ConcurrentHashMap<>();
+        Set<String> failures = ConcurrentHashMap.newKeySet();
+
+        ForkJoinPool pool = createPool();
+        try {
+            pool.submit(() -> names.parallelStream().forEach(name -> {
+                long creationStart = System.nanoTime();
+                try {
+                    List<FunctionTree> trees = fileManager.retrieveCreation(name);
+                    if(trees == null)
+                        failures.add(name);
+                    else creations.put(name, INodeFileManager.fromEventTrees(trees));
+                } catch (RuntimeException e) {
+                    Logging.log("Could not load the creation " + name + ": " + e, LoggingOptions.ERROR);
+                    failures.add(name);
+                }
+                loadTimes.put(name, System.nanoTime() - creationStart);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Logging.log("Loading the creations was interrupted.", LoggingOptions.ERROR);
+        } catch (ExecutionException e) {
+            Logging.log("Loading the creations failed: " + e.getCause(), LoggingOptions.ERROR);
+        } finally {
+            pool.shutdown();
+        }
+
+        Result result = new Result(new HashMap<>(creations), loadTimes, failures, System.nanoTime() - start);
+        report(result);
+        return result;
+    }
+
+    /**
+     *
+     * @return a pool for loading creations, its threads use the plugin's class loader as the context class loader like the main thread
+     */
+    private ForkJoinPool createPool(){
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("MCCustomCreation-Loader-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * logs the summary of the given load
+     * @param result a given load result
+     */
+    private void report(Result result){
+        Logging.log("Loaded " + result.getCreations().size() + " creations in " + toMillis(result.getTotalTime()) + "ms"
+                + (result.getFailures().isEmpty() ? "." : ", " + result.getFailures().size() + " failed: " + result.getFailures()), result.getFailures().isEmpty() ? LoggingOptions.INFO : LoggingOptions.ERROR);
+
+        if(result.getLoadTimes().isEmpty())
+            return;
+        StringBuilder slowest = new StringBuilder("Slowest creations to load:");
+        result.getLoadTimes().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(REPORTED_SLOWEST)
+                .forEach(entry -> slowest.append(' ').append(entry.getKey()).append(" (").append(toMillis(entry.getValue())).append("ms)"));
+        Logging.log(slowest.toString(), LoggingOptions.INFO);
+    }
+
+    /**
+     *
+     * @param nanos a given time in nanoseconds
+     * @return the given time in milliseconds
+     */
+    private static double toMillis(long nanos){
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * the result of a load
+     */
+    public static class Result{
+
+        /**
+         * the loaded creations by their name
+         */
+        private final Map<String, Map<IEvent, List<FunctionTree>>> creations;
+
+        /**
+         * the load time of every creation in nanoseconds, including failed creations
+         */
+        private final Map<String, Long> loadTimes;
+
+        /**
+         * the names of the creations which could not be loaded
+         */
+        private final Set<String> failures;
+
+        /**
+         * the total load time in nanoseconds
+         */
+        private final long totalTime;
+
+        private Result(Map<String, Map<IEvent, List<FunctionTree>>> creations, Map<String, Long> loadTimes, Set<String> failures, long totalTime) {
+            this.creations = creations;
+            this.loadTimes = loadTimes;
+            this.failures = failures;
+            this.totalTime = totalTime;
+        }
+
+        public Map<String, Map<IEvent, List<FunctionTree>>> getCreations() {
+            return creations;
+        }
+
+        public Map<String, Long> getLoadTimes() {
+            return loadTimes;
+        }
+
+        public Set<String> getFailures() {
+            return failures;
+        }
+
+        public long getTotalTime() {
+            return totalTime;
+        }
+    }
+}
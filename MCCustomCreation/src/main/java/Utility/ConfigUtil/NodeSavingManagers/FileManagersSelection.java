@@ -1,5 +1,7 @@
 package Utility.ConfigUtil.NodeSavingManagers;
 
+import Utility.ConfigUtil.NodeSavingManagers.Managers.NodeBinaryManager;
+import Utility.ConfigUtil.NodeSavingManagers.Managers.NodeDirectoryManager;
 import Utility.ConfigUtil.NodeSavingManagers.Managers.NodeYAMLManager;
 
 import java.util.HashMap;
@@ -29,6 +31,8 @@ public class FileManagersSelection {
      */
     private void registerDefaults(){
         register("YAML", NodeYAMLManager.INSTANCE);
+        register("BINARY", NodeBinaryManager.INSTANCE);
+        register("DIRECTORY", NodeDirectoryManager.INSTANCE);
     }
 
     /**
@@ -3,8 +3,11 @@ package Utility.ConfigUtil.NodeSavingManagers;
 import Nodes.Events.IEvent;
 import Nodes.FunctionTree;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public interface INodeFileManager {
@@ -18,12 +21,40 @@ public interface INodeFileManager {
     boolean saveCreation( String creationName,  List<FunctionTree> nodes);
 
     /**
-     *
+     * retrieves the creation with the given name, may be called from several threads at once for different creations
      * @param name a given name
-     * @return retrieve the creation with the given name
+     * @return retrieve the creation with the given name, null if it is not in the file or could not be read
      */
     List<FunctionTree> retrieveCreation( String name);
 
+    /**
+     * removes a creation from the file
+     * @param name a given creation name
+     * @return if the removal was successful
+     */
+    boolean removeCreation(String name);
+
+    /**
+     * saves the changed creations and removes the removed creations, creations which are not given are left untouched
+     * @param changed the event trees of the changed creations by their name
+     * @param removed the names of the removed creations
+     * @return if all the changes were saved
+     */
+    default boolean saveCreations(Map<String,List<FunctionTree>> changed, Set<String> removed){
+        boolean success = true;
+        for (String name : removed)
+            success &= removeCreation(name);
+        for (Map.Entry<String, List<FunctionTree>> entry : changed.entrySet())
+            success &= saveCreation(entry.getKey(),entry.getValue());
+        return success;
+    }
+
+    /**
+     *
+     * @return the names of the creations in the file
+     */
+    Set<String> getCreationNames();
+
     /**
      * retrieves all the creations
      * @return all creations
@@ -36,12 +67,7 @@ public interface INodeFileManager {
      */
    default void saveAllCreations(Map<String,Map<IEvent,List<FunctionTree>>> creations){
        clearCreations();
-       creations.forEach((name,nodes) -> {
-           List<FunctionTree> events = nodes.keySet().stream()
-                   .map(e -> new FunctionTree(e,nodes.get(e).toArray(new FunctionTree[0]),null))
-                   .collect(Collectors.toList());
-           saveCreation(name,events);
-       });
+       creations.forEach((name,nodes) -> saveCreation(name,toEventTrees(nodes)));
    }
 
     /**
@@ -49,5 +75,32 @@ public interface INodeFileManager {
      */
    void clearCreations();
 
+    /**
+     *
+     * @param creation a given creation
+     * @return the event trees of the given creation, each event with its actions as the next trees
+     */
+   static List<FunctionTree> toEventTrees(Map<IEvent,List<FunctionTree>> creation){
+       return creation.keySet().stream()
+               .map(e -> new FunctionTree(e,creation.get(e).toArray(new FunctionTree[0]),null))
+               .collect(Collectors.toList());
+   }
+
+    /**
+     *
+     * @param eventTrees given event trees of a creation
+     * @return the creation of the given event trees
+     */
+   static Map<IEvent,List<FunctionTree>> fromEventTrees(List<FunctionTree> eventTrees){
+       Map<IEvent,List<FunctionTree>> event = new HashMap<>();
+       for (FunctionTree functionTree : eventTrees) {
+           if(functionTree != null && functionTree.getCurrent() != null && functionTree.getNext() != null)
+               event.put((IEvent) functionTree.getCurrent(),
+                       Arrays.stream(functionTree.getNext())
+                               .collect(Collectors.toList()));
+       }
+       return event;
+   }
+
 
 }
@@ -0,0 +1,256 @@
+package Utility.ConfigUtil.NodeSavingManagers.Managers;
+
+import Nodes.Events.IEvent;
+import Nodes.FunctionTree;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.BinaryCreationsFile;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.CreationDecoder;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.CreationEncoder;
+import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+import me.ODINN.MCCustomCreation.Main;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * A file manager which stores the creations in a compact binary file, only the location of each creation in the file is kept in memory.
+ * when there is no binary file yet, the creations of the YAML file are converted into it
+ */
+public class NodeBinaryManager implements INodeFileManager {
+
+    /**
+     * The nodes file name
+     */
+    private static final String NAME = "Creations.bin";
+
+    /**
+     * Singleton implementation
+     */
+    public static final NodeBinaryManager INSTANCE = new NodeBinaryManager();
+
+    /**
+     * the nodes file
+     */
+    private final File file;
+
+    /**
+     * the encoded bodies of the creations by their name, loaded on first use.
+     * bodies which are stored in the file are null and read from the file when needed, only their location is kept
+     */
+    private Map<String, byte[]> bodies;
+
+    /**
+     * the offset and length of the bodies stored in the file by the creation's name
+     */
+    private Map<String, long[]> index;
+
+    /**
+     * if the file could not be read, the file is then never written so the creations stored in it are not lost
+     */
+    private boolean unreadable;
+
+    private NodeBinaryManager() {
+        this.file = new File(Main.getInstance().getDataFolder(), NAME);
+        this.index = new HashMap<>();
+    }
+
+    /**
+     *
+     * @return the encoded bodies of the creations, loading the file's index if not loaded yet
+     */
+    private Map<String, byte[]> getBodies(){
+        if(bodies != null)
+            return bodies;
+
+        bodies = new LinkedHashMap<>();
+        if(!file.exists()) {
+            if(!NodeYAMLManager.INSTANCE.getCreationNames().isEmpty())
+                convertFromYAML();
+            return bodies;
+        }
+
+        try {
+            index = BinaryCreationsFile.readIndex(file);
+            for (String name : index.keySet())
+                bodies.put(name, null);
+        } catch (IOException e) {
+            unreadable = true;
+            Logging.log("Could not read the creations file " + file + ": " + e.getMessage()
+                    + ". The file will not be written until it is fixed and the server is restarted.", LoggingOptions.ERROR);
+        }
+        return bodies;
+    }
+
+    /**
+     *
+     * @param name a given creation name
+     * @return the body of the creation with the given name, null if there is no such creation
+     * @throws IOException if the body could not be read from the file
+     */
+    private byte[] getBody(String name) throws IOException {
+        byte[] body = getBodies().get(name);
+        if(body != null)
+            return body;
+        long[] location = index.get(name);
+        return location == null ? null : BinaryCreationsFile.readBody(file, location[0], (int) location[1]);
+    }
+
+    /**
+     * writes the bodies to the file, the written bodies are then dropped from memory and read from the file when needed
+     * @return if the write was successful, false if the file could not be read
+     */
+    private boolean writeFile(){
+        getBodies();
+        if(unreadable) {
+            Logging.log("The creations file " + file + " could not be read, so it is not written.", LoggingOptions.ERROR);
+            return false;
+        }
+        try {
+            Map<String, byte[]> stored = getBodies().containsValue(null) ? BinaryCreationsFile.read(file) : Collections.emptyMap();
+            Map<String, byte[]> all = new LinkedHashMap<>();
+            for (Map.Entry<String, byte[]> entry : getBodies().entrySet()) {
+                byte[] body = entry.getValue() != null ? entry.getValue() : stored.get(entry.getKey());
+                if(body != null)
+                    all.put(entry.getKey(), body);
+                else Logging.log("The creation " + entry.getKey() + " is missing from the creations file, so it is dropped.", LoggingOptions.ERROR);
+            }
+
+            index = BinaryCreationsFile.write(file, all);
+            bodies = new LinkedHashMap<>();
+            for (String name : index.keySet())
+                bodies.put(name, null);
+            return true;
+        } catch (IOException e) {
+            Logging.log("Could not write the creations file " + file + ": " + e.getMessage(), LoggingOptions.ERROR);
+            return false;
+        }
+    }
+
+    /**
+     * converts all the creations of the YAML file into the binary file, the YAML file is left unchanged.
+     * the creations are converted from their serialized form, so they are kept even if their nodes are not registered
+     * @return the amount of converted creations
+     */
+    public synchronized int convertFromYAML(){
+        Map<String, byte[]> converted = encodeYAMLCreations();
+        bodies = converted;
+        writeFile();
+        Logging.log("Converted " + converted.size() + " creations from the YAML file to the binary file.", LoggingOptions.INFO);
+        return converted.size();
+    }
+
+    /**
+     * encodes all the creations of the YAML file from their serialized form
+     * @return the bodies of the YAML file's creations by their name
+     */
+    static Map<String, byte[]> encodeYAMLCreations(){
+        Map<String, byte[]> converted = new LinkedHashMap<>();
+        for (String name : NodeYAMLManager.INSTANCE.getCreationNames()) {
+            try {
+                converted.put(name, CreationEncoder.encodeSerialized(NodeYAMLManager.INSTANCE.retrieveSerializedCreation(name)));
+            } catch (IOException | RuntimeException e) {
+                Logging.log("Could not convert the creation " + name + " to the binary format: " + e, LoggingOptions.ERROR);
+            }
+        }
+        return converted;
+    }
+
+    @Override
+    public synchronized boolean saveCreation(String creationName, List<FunctionTree> nodes) {
+        try {
+            getBodies().put(creationName, CreationEncoder.encode(nodes));
+        } catch (IOException e) {
+            Logging.log("Could not encode the creation " + creationName + ": " + e.getMessage(), LoggingOptions.ERROR);
+            return false;
+        }
+        return writeFile();
+    }
+
+    @Override
+    public synchronized boolean removeCreation(String name) {
+        if(!getBodies().containsKey(name))
+            return true;
+        getBodies().remove(name);
+        return writeFile();
+    }
+
+    @Override
+    public synchronized boolean saveCreations(Map<String, List<FunctionTree>> changed, Set<String> removed) {
+        if(changed.isEmpty() && removed.isEmpty())
+            return true;
+
+        boolean success = true;
+        for (String name : removed)
+            getBodies().remove(name);
+        for (Map.Entry<String, List<FunctionTree>> entry : changed.entrySet()) {
+            try {
+                getBodies().put(entry.getKey(), CreationEncoder.encode(entry.getValue()));
+            } catch (IOException e) {
+                Logging.log("Could not encode the creation " + entry.getKey() + ": " + e.getMessage(), LoggingOptions.ERROR);
+                success = false;
+            }
+        }
+        return writeFile() && success;
+    }
+
+    @Override
+    public List<FunctionTree> retrieveCreation(String name) {
+        try {
+            byte[] body;
+            synchronized (this) { // the file may be replaced while unlocked
+                body = getBody(name);
+            }
+            if(body == null)
+                return null;
+            return CreationDecoder.decode(body, name);
+        } catch (IOException | RuntimeException e) {
+            Logging.log("Could not decode the creation " + name + ": " + e.getMessage(), LoggingOptions.ERROR);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized Set<String> getCreationNames() {
+        return new LinkedHashSet<>(getBodies().keySet());
+    }
+
+    @Override
+    public synchronized Map<String, Map<IEvent, List<FunctionTree>>> retrieveAllCreations() {
+        Map<String, Map<IEvent, List<FunctionTree>>> map = new HashMap<>();
+        for (String name : getBodies().keySet()) {
+            List<FunctionTree> trees = retrieveCreation(name);
+            if(trees != null)
+                map.put(name, INodeFileManager.fromEventTrees(trees));
+        }
+        return map;
+    }
+
+    @Override
+    public synchronized void saveAllCreations(Map<String, Map<IEvent, List<FunctionTree>>> creations) {
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        creations.forEach((name, nodes) -> {
+            try {
+                encoded.put(name, CreationEncoder.encode(INodeFileManager.toEventTrees(nodes)));
+            } catch (IOException e) {
+                Logging.log("Could not encode the creation " + name + ": " + e.getMessage(), LoggingOptions.ERROR);
+                try {
+                    byte[] previous = getBody(name);
+                    if(previous != null)
+                        encoded.put(name, previous);
+                } catch (IOException ex) {
+                    Logging.log("Could not read the creation " + name + ": " + ex.getMessage(), LoggingOptions.ERROR);
+                }
+            }
+        });
+        bodies = encoded;
+        writeFile();
+    }
+
+    @Override
+    public synchronized void clearCreations() {
+        getBodies().clear();
+        writeFile();
+    }
+}
@@ -0,0 +1,203 @@
+package Utility.ConfigUtil.NodeSavingManagers.Managers;
+
+import Nodes.Events.IEvent;
+import Nodes.FunctionTree;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.BinaryCreationsFile;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.CreationDecoder;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.CreationEncoder;
+import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+import me.ODINN.MCCustomCreation.Main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A file manager which stores every creation in its own binary file, so saving a creation only writes that creation.
+ * when there is no creations directory yet, the creations of the YAML file are converted into it
+ */
+public class NodeDirectoryManager implements INodeFileManager {
+
+    /**
+     * The creations directory name
+     */
+    private static final String NAME = "creations";
+
+    /**
+     * The creation files extension
+     */
+    private static final String EXTENSION = ".ccb";
+
+    /**
+     * Singleton implementation
+     */
+    public static final NodeDirectoryManager INSTANCE = new NodeDirectoryManager();
+
+    /**
+     * the creations directory
+     */
+    private final File directory;
+
+    /**
+     * the file of every stored creation by the creation's name, loaded on first use
+     */
+    private Map<String, File> files;
+
+    private NodeDirectoryManager() {
+        this.directory = new File(Main.getInstance().getDataFolder(), NAME);
+    }
+
+    /**
+     *
+     * @return the files of the stored creations, scanning the directory if not scanned yet
+     */
+    private Map<String, File> getFiles(){
+        if(files != null)
+            return files;
+
+        files = new LinkedHashMap<>();
+        if(!directory.exists()) {
+            directory.mkdirs();
+            if(!NodeYAMLManager.INSTANCE.getCreationNames().isEmpty())
+                convertFromYAML();
+            return files;
+        }
+
+        File[] list = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if(list == null)
+            return files;
+        for (File file : list) {
+            try {
+                files.put(BinaryCreationsFile.readCreationName(file), file); // the bodies are read when their creations are retrieved
+            } catch (IOException e) {
+                Logging.log("Could not read the creation file " + file + ": " + e.getMessage(), LoggingOptions.ERROR);
+            }
+        }
+        return files;
+    }
+
+    /**
+     *
+     * @param name a given creation name
+     * @return the file of the creation with the given name
+     */
+    private File getFile(String name){
+        File file = getFiles().get(name);
+        if(file != null)
+            return file;
+        return new File(directory, toFileName(name) + EXTENSION);
+    }
+
+    /**
+     * names which differ only by case get different file names, so they do not share a file on case insensitive file systems
+     * @param name a given creation name
+     * @return the lower case hex of the given name's UTF-8 bytes
+     */
+    static String toFileName(String name){
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        return builder.toString();
+    }
+
+    /**
+     * writes the given body as the creation with the given name
+     * @param name a given creation name
+     * @param body the creation's body
+     * @return if the write was successful
+     */
+    private boolean writeCreation(String name, byte[] body){
+        File file = getFile(name);
+        try {
+            BinaryCreationsFile.writeCreation(file, name, body);
+            getFiles().put(name, file);
+            return true;
+        } catch (IOException e) {
+            Logging.log("Could not write the creation file " + file + ": " + e.getMessage(), LoggingOptions.ERROR);
+            return false;
+        }
+    }
+
+    /**
+     * converts all the creations of the YAML file into creation files, the YAML file is left unchanged.
+     * the creations are converted from their serialized form, so they are kept even if their nodes are not registered
+     * @return the amount of converted creations
+     */
+    public synchronized int convertFromYAML(){
+        int count = 0;
+        for (Map.Entry<String, byte[]> entry : NodeBinaryManager.encodeYAMLCreations().entrySet())
+            if(writeCreation(entry.getKey(), entry.getValue()))
+                count++;
+        Logging.log("Converted " + count + " creations from the YAML file to the creations directory.", LoggingOptions.INFO);
+        return count;
+    }
+
+    @Override
+    public synchronized boolean saveCreation(String creationName, List<FunctionTree> nodes) {
+        try {
+            return writeCreation(creationName, CreationEncoder.encode(nodes));
+        } catch (IOException e) {
+            Logging.log("Could not encode the creation " + creationName + ": " + e.getMessage(), LoggingOptions.ERROR);
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized boolean removeCreation(String name) {
+        File file = getFiles().remove(name);
+        if(file == null || !file.exists() || file.delete())
+            return true;
+        Logging.log("Could not delete the creation file " + file, LoggingOptions.ERROR);
+        return false;
+    }
+
+    @Override
+    public List<FunctionTree> retrieveCreation(String name) {
+        File file;
+        synchronized (this) {
+            file = getFiles().get(name);
+        }
+        if(file == null)
+            return null;
+        try {
+            return CreationDecoder.decode(BinaryCreationsFile.readCreation(file).getValue(), name);
+        } catch (IOException | RuntimeException e) {
+            Logging.log("Could not decode the creation " + name + ": " + e.getMessage(), LoggingOptions.ERROR);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized Set<String> getCreationNames() {
+        return new LinkedHashSet<>(getFiles().keySet());
+    }
+
+    @Override
+    public synchronized Map<String, Map<IEvent, List<FunctionTree>>> retrieveAllCreations() {
+        Map<String, Map<IEvent, List<FunctionTree>>> map = new HashMap<>();
+        for (String name : new ArrayList<>(getFiles().keySet())) {
+            List<FunctionTree> trees = retrieveCreation(name);
+            if(trees != null)
+                map.put(name, INodeFileManager.fromEventTrees(trees));
+        }
+        return map;
+    }
+
+    @Override
+    public synchronized void saveAllCreations(Map<String, Map<IEvent, List<FunctionTree>>> creations) {
+        for (String name : new ArrayList<>(getFiles().keySet()))
+            if(!creations.containsKey(name))
+                removeCreation(name);
+        creations.forEach((name, nodes) -> saveCreation(name, INodeFileManager.toEventTrees(nodes)));
+    }
+
+    @Override
+    public synchronized void clearCreations() {
+        for (String name : new ArrayList<>(getFiles().keySet()))
+            removeCreation(name);
+    }
+}
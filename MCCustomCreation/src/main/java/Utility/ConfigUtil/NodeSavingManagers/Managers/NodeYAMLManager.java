@@ -4,12 +4,17 @@ import Nodes.Events.IEvent;
 import Nodes.FunctionTree;
 import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
 import Utility.ConfigUtil.YmlManager;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
 import me.ODINN.MCCustomCreation.Main;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * A file manager which stores the creations in a YAML file.
+ * the file's configuration is shared between the main thread and the save worker, so all the access to it is synchronized
+ */
 public class NodeYAMLManager extends YmlManager implements INodeFileManager {
     /**
      * The nodes config file name
@@ -30,59 +35,116 @@ public class NodeYAMLManager extends YmlManager implements INodeFileManager {
     }
 
     @Override
-    public boolean saveCreation(String creationName, List<FunctionTree> nodes){
-        List<Map<String,Object>> list = new ArrayList<>();
-        for (FunctionTree node : nodes)
-            list.add(node.serialize());
+    public synchronized boolean saveCreation(String creationName, List<FunctionTree> nodes){
+        return set(new String[]{FATHER_KEY,creationName},FunctionTree.serializeAll(nodes));
+    }
+
+    @Override
+    public synchronized boolean removeCreation(String name) {
+        return set(new String[]{FATHER_KEY,name},null);
+    }
 
-        set(new String[]{FATHER_KEY,creationName},list);
-        return true;
+    @Override
+    public synchronized boolean saveCreations(Map<String, List<FunctionTree>> changed, Set<String> removed) {
+        if(changed.isEmpty() && removed.isEmpty())
+            return true;
+
+        boolean success = true;
+        for (String name : removed)
+            success &= set(FATHER_KEY+"."+name,null,false);
+        for (Map.Entry<String, List<FunctionTree>> entry : changed.entrySet())
+            success &= set(FATHER_KEY+"."+entry.getKey(),FunctionTree.serializeAll(entry.getValue()),false);
+        return saveConfig() && success;
     }
 
     @Override
     public List<FunctionTree> retrieveCreation(String name) {
+         List<Map<String,Object>> list = copySerializedCreation(name); // deserialized unlocked, so loads run in parallel with each other and with saves
+         if(list == null)
+             return null;
+         try {
+             return FunctionTree.deserializeAll(list,name);
+         } catch (CloneNotSupportedException | ClassNotFoundException | RuntimeException e) {
+             Logging.log("Could not deserialize the creation "+name+": "+e,LoggingOptions.ERROR);
+             return null;
+         }
+    }
 
-         List<Map<String,Object>> list = (List) getConfig().getList(FATHER_KEY+"."+name,null);
-         List<FunctionTree> trees = new ArrayList<>();
-         list.forEach(map -> {
-             try {
-                 trees.add(FunctionTree.deserialize(null,map,name));
-             } catch (CloneNotSupportedException | ClassNotFoundException e) {
-                 e.printStackTrace();
-             }
-         });
-        return trees;
+    /**
+     *
+     * @param name a given name
+     * @return a deep copy of the serialized event trees of the creation with the given name, null if there is no such creation
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized List<Map<String,Object>> copySerializedCreation(String name){
+        List<?> list = getConfig().getList(FATHER_KEY+"."+name,null);
+        return list == null ? null : (List<Map<String,Object>>) copy(list);
+    }
+
+    /**
+     *
+     * @param value a given serialized value
+     * @return a copy of the given value's lists and maps, other values are shared
+     */
+    private static Object copy(Object value){
+        if(value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value)
+                copy.add(copy(element));
+            return copy;
+        }
+        if(value instanceof Map) {
+            Map<Object,Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?,?> entry : ((Map<?,?>) value).entrySet())
+                copy.put(entry.getKey(), copy(entry.getValue()));
+            return copy;
+        }
+        return value;
     }
 
     @Override
-    public Map<String, Map<IEvent, List<FunctionTree>>> retrieveAllCreations() {
-        Map<String, Map<IEvent, List<FunctionTree>>> map = new HashMap<>();
+    public synchronized Set<String> getCreationNames(){
         ConfigurationSection section = getConfig().getConfigurationSection(FATHER_KEY);
+        return section == null ? new HashSet<>() : section.getKeys(false);
+    }
 
-        if(section == null)
-            return null;
+    /**
+     *
+     * @param name a given name
+     * @return the event trees of the creation with the given name as they are serialized in the file
+     */
+    public synchronized List<Map<String,Object>> retrieveSerializedCreation(String name){
+        List<Map<String,Object>> list = (List) getConfig().getList(FATHER_KEY+"."+name,null);
+        return list == null ? new ArrayList<>() : list;
+    }
 
-        Set<String> creations = section.getKeys(false);
+    @Override
+    public Map<String, Map<IEvent, List<FunctionTree>>> retrieveAllCreations() {
+        Map<String, Map<IEvent, List<FunctionTree>>> map = new HashMap<>();
+        Set<String> creations;
+        synchronized (this) {
+            ConfigurationSection section = getConfig().getConfigurationSection(FATHER_KEY);
+            if(section == null)
+                return null;
+            creations = section.getKeys(false);
+        }
 
         for (String creation : creations) {
 
             List<FunctionTree> tree = retrieveCreation(creation);
-            Map<IEvent,List<FunctionTree>> event = new HashMap<>();
-
-            for (FunctionTree functionTree : tree) {
-                if(functionTree.getCurrent() != null && functionTree.getNext() != null)
-                event.put((IEvent) functionTree.getCurrent(),
-                        Arrays.stream(functionTree.getNext())
-                                .collect(Collectors.toList()));
-            }
-
-            map.put(creation,event);
+            if(tree != null)
+                map.put(creation,INodeFileManager.fromEventTrees(tree));
         }
         return map;
     }
 
     @Override
-    public void clearCreations() {
+    public synchronized void saveAllCreations(Map<String, Map<IEvent, List<FunctionTree>>> creations) {
+        INodeFileManager.super.saveAllCreations(creations);
+    }
+
+    @Override
+    public synchronized void clearCreations() {
         set(FATHER_KEY,null);
     }
 }
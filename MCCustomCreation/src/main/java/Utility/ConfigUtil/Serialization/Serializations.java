@@ -16,6 +16,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Serializations {
 
@@ -112,7 +113,29 @@ public class Serializations {
         }
     };
 
+    /**
+     * the classes which were looked up by their name
+     */
+    private static final Map<String,Class<?>> classes = new ConcurrentHashMap<>();
+
     private Serializations(){}
+
+    /**
+     * looks up a class by its name, the classes are cached since the same few classes are looked up for every primitive
+     * @param name a given class name
+     * @return the class with the given name
+     * @throws ClassNotFoundException if there is no class with the given name
+     */
+    public static Class<?> forName(String name) throws ClassNotFoundException {
+        if(name == null)
+            throw new ClassNotFoundException("null");
+        Class<?> clazz = classes.get(name);
+        if(clazz == null) {
+            clazz = Class.forName(name);
+            classes.put(name,clazz);
+        }
+        return clazz;
+    }
     /**
      * registers a serializer
      * @param type a given type class
@@ -146,8 +169,7 @@ public class Serializations {
 
             return byteOut.toByteArray();
         } catch (IOException e) {
-            Logging.log("There was no Serializer for "+obj.getClass()+" and it couldn't be serialized. make sure there are no errors or you need to make a serializer!", LoggingOptions.ERROR);
-            e.printStackTrace();
+            Logging.log("There was no Serializer for "+obj.getClass()+" and it couldn't be serialized. make sure there are no errors or you need to make a serializer! "+e, LoggingOptions.ERROR);
             return null;
         }
     }
@@ -178,9 +200,7 @@ public class Serializations {
 
             return bukkitIn.readObject();
         } catch (IOException | ClassNotFoundException e) {
-            Logging.log("Could not deserialize object, could be not serializable.", LoggingOptions.ERROR);
-
-            e.printStackTrace();
+            Logging.log("Could not deserialize object, could be not serializable. "+e, LoggingOptions.ERROR);
             return null;
         }
     }
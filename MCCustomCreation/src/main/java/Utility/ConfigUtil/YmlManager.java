@@ -79,15 +79,18 @@ public class YmlManager {
 
     /**
      * saves the config
+     * @return if the save was successful, true if there is nothing to save
      */
-    public void saveConfig() {
+    public boolean saveConfig() {
         if(this.dataConfig == null || this.configFile == null)
-            return;
+            return true;
 
         try {
             this.getConfig().save(configFile);
+            return true;
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "Error trying to save a config file: "+this.configFile, e);
+            return false;
         }
     }
 
@@ -114,12 +117,24 @@ public class YmlManager {
      * @return if the set was successful
      */
     public boolean set(String path, Object obj){
+        return set(path, obj, true);
+    }
+
+    /**
+     * sets the given object in the given path in the config
+     * @param path a given path
+     * @param obj a given object
+     * @param save if the config should be saved after the set, batched sets save once when done
+     * @return if the set was successful
+     */
+    public boolean set(String path, Object obj, boolean save){
         if(getConfig() == null)
             return false;
 
         try {
             getConfig().set(path, obj);
-            saveConfig();
+            if(save)
+                return saveConfig();
         }catch (Exception e){
             e.printStackTrace();
             return false;
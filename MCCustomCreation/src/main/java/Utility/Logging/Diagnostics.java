@@ -0,0 +1,103 @@
+package Utility.Logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * reports problems which may happen on every execution, such as invalid node arguments.
+ * the reports are rate limited by their source and their messages are only built when they are reported
+ */
+public class Diagnostics {
+
+    /**
+     * the length of a report window in nanoseconds
+     */
+    private static final long WINDOW = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * the amount of reports of a single source within a window, the following reports of the window are suppressed
+     */
+    private static final int REPORTS_PER_WINDOW = 5;
+
+    /**
+     * Singleton implementation
+     */
+    public static final Diagnostics INSTANCE = new Diagnostics();
+
+    /**
+     * the current window of every source
+     */
+    private final Map<String, Window> windows;
+
+    /**
+     * the amount of reports made and suppressed
+     */
+    private final AtomicLong reported;
+    private final AtomicLong suppressed;
+
+    private Diagnostics(){
+        this.windows = new ConcurrentHashMap<>();
+        this.reported = new AtomicLong();
+        this.suppressed = new AtomicLong();
+    }
+
+    /**
+     * reports a problem of the given source, unless the source reported too many problems lately
+     * @param source the source of the problem, such as a node's key
+     * @param message the problem's message, only built if the problem is reported
+     */
+    public void report(String source, Supplier<String> message){
+        Window window = windows.computeIfAbsent(source, s -> new Window());
+        int skipped;
+        synchronized (window) {
+            long now = System.nanoTime();
+            skipped = 0;
+            if(now - window.start >= WINDOW) {
+                skipped = window.suppressed;
+                window.start = now;
+                window.reports = 0;
+                window.suppressed = 0;
+            }
+            if(window.reports >= REPORTS_PER_WINDOW) {
+                window.suppressed++;
+                suppressed.incrementAndGet();
+                return;
+            }
+            window.reports++;
+        }
+
+        reported.incrementAndGet();
+        String msg = message.get();
+        if(skipped > 0)
+            msg += " (" + skipped + " similar reports were suppressed)";
+        Logging.log(msg, LoggingOptions.INFO);
+    }
+
+    /**
+     *
+     * @return the amount of reported problems
+     */
+    public long getReportedCount(){
+        return reported.get();
+    }
+
+    /**
+     *
+     * @return the amount of suppressed problems
+     */
+    public long getSuppressedCount(){
+        return suppressed.get();
+    }
+
+    /**
+     * the reports of a source within a window
+     */
+    private static class Window{
+        private long start = System.nanoTime();
+        private int reports;
+        private int suppressed;
+    }
+}
@@ -8,12 +8,77 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An utility class for Persistent Data Container
  */
 public class PDCUtil {
 
+    /**
+     * The stored data type, it holds no state so a single instance is shared
+     */
+    private static final StoredData STORED_DATA = new StoredData();
+
+    /**
+     * The namespaced keys of the plugin, by their key
+     */
+    private static final Map<String, NamespacedKey> KEYS = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param key a given key
+     * @return the plugin's namespaced key of the given key
+     */
+    public static NamespacedKey getKey(String key){
+        return KEYS.computeIfAbsent(key, k -> new NamespacedKey(Main.getInstance(), k));
+    }
+
+    /**
+     *
+     * @param container a given container
+     * @param key a given key
+     * @param type the value's native data type
+     * @param <T> the container's value type
+     * @return the value of the given container with the given key stored with the given native type, null if there is none
+     */
+    public static <T> T get(PersistentDataContainer container, String key, PersistentDataType<?, T> type){
+        if(container == null)
+            return null;
+        return container.get(getKey(key), type);
+    }
+
+    /**
+     *
+     * @param container a given item
+     * @param key a given key
+     * @param type the value's native data type
+     * @param <T> the container's value type
+     * @return the value of the given item with the given key stored with the given native type, null if there is none
+     */
+    public static <T> T get(ItemStack container, String key, PersistentDataType<?, T> type){
+        if(container == null || container.getType().equals(Material.AIR) || !container.hasItemMeta())
+            return null;
+        return get(container.getItemMeta().getPersistentDataContainer(), key, type);
+    }
+
+    /**
+     * sets the given value in the given container with the given key with the given native data type
+     * @param container a given container
+     * @param key a given key
+     * @param type the value's native data type
+     * @param value a given value
+     * @param <T> the container's value type
+     */
+    public static <T> void set(PersistentDataContainer container, String key, PersistentDataType<?, T> type, T value){
+        if(container == null)
+            return;
+        container.set(getKey(key), type, value);
+    }
+
     /**
      *
      * @param container a given container
@@ -23,7 +88,7 @@ public class PDCUtil {
     public static boolean has(PersistentDataContainer container,String key){
         if(container == null)
             return false;
-        return container.has(new NamespacedKey(Main.getInstance(),key),new StoredData());
+        return container.has(getKey(key),STORED_DATA);
     }
 
     /**
@@ -59,7 +124,7 @@ public class PDCUtil {
      */
     public static <T> T get(PersistentDataContainer container,String key ){
         if(has(container,key))
-            return (T) Serializations.deserialize(container.get(new NamespacedKey(Main.getInstance(),key),new StoredData()));
+            return (T) Serializations.deserialize(container.get(getKey(key),STORED_DATA));
         return null;
     }
 
@@ -99,7 +164,7 @@ public class PDCUtil {
     public static <T> void set(PersistentDataContainer container,String key ,T value){
         if(container == null)
             return;
-        container.set(new NamespacedKey(Main.getInstance(),key),new StoredData(),Serializations.serialize(value));
+        container.set(getKey(key),STORED_DATA,Serializations.serialize(value));
     }
 
     /**
@@ -138,7 +203,7 @@ public class PDCUtil {
     public static void remove(PersistentDataContainer container ,String key){
         if(container == null)
             return;
-        container.remove(new NamespacedKey(Main.getInstance(),key));
+        container.remove(getKey(key));
     }
 
     /**
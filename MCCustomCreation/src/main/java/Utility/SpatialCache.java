@@ -0,0 +1,289 @@
+package Utility;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.util.BoundingBox;
+
+import java.util.*;
+
+/**
+ * Answers nearby entities queries from a snapshot of the queried chunks' entities, taken once per tick.
+ * a chunk's snapshot is taken the first time the chunk is queried in a tick, so repeated queries of the same area
+ * within a tick do not scan the world again. queries from other threads are answered by the world directly
+ */
+public class SpatialCache {
+
+    /**
+     * the distance an entity's bounding box may reach outside its chunk, the same margin the server queries with
+     */
+    private static final double MARGIN = 2;
+
+    /**
+     * Singleton implementation
+     */
+    public static final SpatialCache INSTANCE = new SpatialCache();
+
+    /**
+     * the snapshot of every queried world, by the world's id
+     */
+    private final Map<UUID, WorldSnapshot> worlds;
+
+    private SpatialCache(){
+        this.worlds = new HashMap<>();
+    }
+
+    /**
+     *
+     * @param entity a given entity
+     * @param x the x offset of the entity's bounding box
+     * @param y the y offset of the entity's bounding box
+     * @param z the z offset of the entity's bounding box
+     * @return the entities whose bounding boxes overlap the given entity's expanded bounding box, not including the given entity
+     */
+    public List<Entity> getNearbyEntities(Entity entity, double x, double y, double z){
+        if(!Bukkit.isPrimaryThread())
+            return entity.getNearbyEntities(x, y, z);
+        BoundingBox box = entity.getBoundingBox().expand(x, y, z);
+        return getSnapshot(entity.getWorld()).query(box, entity, null);
+    }
+
+    /**
+     *
+     * @param location a given location
+     * @param x the x offset from the location
+     * @param y the y offset from the location
+     * @param z the z offset from the location
+     * @param type the type of the returned entities, null for all types
+     * @return the entities whose bounding boxes overlap the box around the given location
+     */
+    public List<Entity> getNearbyEntities(Location location, double x, double y, double z, EntityType type){
+        World world = location.getWorld();
+        if(!Bukkit.isPrimaryThread())
+            return new ArrayList<>(world.getNearbyEntities(location, x, y, z, type == null ? null : entity -> entity.getType() == type));
+        BoundingBox box = BoundingBox.of(location, x, y, z);
+        return getSnapshot(world).query(box, null, type);
+    }
+
+    /**
+     *
+     * @param entity a given entity
+     * @param x the x offset of the entity's bounding box
+     * @param y the y offset of the entity's bounding box
+     * @param z the z offset of the entity's bounding box
+     * @param k the max amount of returned entities
+     * @return the k entities nearest to the given entity out of its nearby entities, the nearest first
+     */
+    public List<Entity> getNearestEntities(Entity entity, double x, double y, double z, int k){
+        BoundingBox box = entity.getBoundingBox().expand(x, y, z);
+        Location location = entity.getLocation();
+        if(!Bukkit.isPrimaryThread()) {
+            List<Entity> entities = entity.getNearbyEntities(x, y, z);
+            entities.sort(Comparator.comparingDouble(other -> other.getLocation().distanceSquared(location)));
+            return new ArrayList<>(entities.subList(0, Math.min(k, entities.size())));
+        }
+        return getSnapshot(entity.getWorld()).nearest(box, location.getX(), location.getY(), location.getZ(), entity, k);
+    }
+
+    /**
+     *
+     * @param world a given world
+     * @return the world's snapshot of the current tick
+     */
+    private WorldSnapshot getSnapshot(World world){
+        long tick = world.getGameTime();
+        WorldSnapshot snapshot = worlds.get(world.getUID());
+        if(snapshot == null || snapshot.world != world) {
+            snapshot = new WorldSnapshot(world);
+            worlds.put(world.getUID(), snapshot);
+        }
+        if(snapshot.tick != tick) {
+            snapshot.tick = tick;
+            snapshot.chunks.clear();
+        }
+        return snapshot;
+    }
+
+    /**
+     * removes all the snapshots
+     */
+    public void clear(){
+        worlds.clear();
+    }
+
+    /**
+     * The snapshots of a world's queried chunks in a single tick
+     */
+    private static final class WorldSnapshot{
+        private final World world;
+        private final Map<Long, ChunkSnapshot> chunks;
+        private long tick;
+
+        private WorldSnapshot(World world) {
+            this.world = world;
+            this.chunks = new HashMap<>();
+            this.tick = Long.MIN_VALUE;
+        }
+
+        /**
+         *
+         * @param chunkX a given chunk x
+         * @param chunkZ a given chunk z
+         * @return the snapshot of the given chunk, null if the chunk is not loaded
+         */
+        private ChunkSnapshot getChunk(int chunkX, int chunkZ){
+            long key = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+            ChunkSnapshot snapshot = chunks.get(key);
+            if(snapshot == null) {
+                if(!world.isChunkLoaded(chunkX, chunkZ))
+                    return null;
+                snapshot = new ChunkSnapshot(world.getChunkAt(chunkX, chunkZ));
+                chunks.put(key, snapshot);
+            }
+            return snapshot;
+        }
+
+        /**
+         *
+         * @param box a given box
+         * @param exclude an entity not to return, null to return all entities
+         * @param type the type of the returned entities, null for all types
+         * @return the entities whose bounding boxes overlap the given box
+         */
+        private List<Entity> query(BoundingBox box, Entity exclude, EntityType type){
+            List<Entity> result = new ArrayList<>();
+            int minChunkX = chunk(box.getMinX() - MARGIN), maxChunkX = chunk(box.getMaxX() + MARGIN);
+            int minChunkZ = chunk(box.getMinZ() - MARGIN), maxChunkZ = chunk(box.getMaxZ() + MARGIN);
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    ChunkSnapshot chunk = getChunk(chunkX, chunkZ);
+                    if(chunk == null)
+                        continue;
+                    for (int i = 0; i < chunk.entities.length; i++)
+                        if(chunk.overlaps(i, box) && chunk.matches(i, exclude, type))
+                            result.add(chunk.entities[i]);
+                }
+            return result;
+        }
+
+        /**
+         * searches the chunks in rings around the given position, until no farther chunk may hold a nearer entity
+         * @param box a given box
+         * @param x the x of the position
+         * @param y the y of the position
+         * @param z the z of the position
+         * @param exclude an entity not to return, null to return all entities
+         * @param k the max amount of returned entities
+         * @return the k entities nearest to the given position whose bounding boxes overlap the given box, the nearest first
+         */
+        private List<Entity> nearest(BoundingBox box, double x, double y, double z, Entity exclude, int k){
+            Entity[] nearest = new Entity[k];
+            double[] distances = new double[k];
+            int found = 0;
+
+            int minChunkX = chunk(box.getMinX() - MARGIN), maxChunkX = chunk(box.getMaxX() + MARGIN);
+            int minChunkZ = chunk(box.getMinZ() - MARGIN), maxChunkZ = chunk(box.getMaxZ() + MARGIN);
+            int centerX = chunk(x), centerZ = chunk(z);
+            int rings = Math.max(Math.max(centerX - minChunkX, maxChunkX - centerX), Math.max(centerZ - minChunkZ, maxChunkZ - centerZ));
+            for (int ring = 0; ring <= rings; ring++) {
+                double bound = Math.max(0, (ring - 1) * 16);
+                if(found == k && distances[k - 1] < bound * bound)
+                    break; // the entities of this ring and beyond are farther than the found ones
+
+                for (int chunkX = centerX - ring; chunkX <= centerX + ring; chunkX++)
+                    for (int chunkZ = centerZ - ring; chunkZ <= centerZ + ring; chunkZ++) {
+                        if(Math.max(Math.abs(chunkX - centerX), Math.abs(chunkZ - centerZ)) != ring
+                                || chunkX < minChunkX || chunkX > maxChunkX || chunkZ < minChunkZ || chunkZ > maxChunkZ)
+                            continue;
+                        ChunkSnapshot chunk = getChunk(chunkX, chunkZ);
+                        if(chunk == null)
+                            continue;
+                        for (int i = 0; i < chunk.entities.length; i++) {
+                            if(!chunk.overlaps(i, box) || !chunk.matches(i, exclude, null))
+                                continue;
+                            double distance = chunk.distanceSquared(i, x, y, z);
+                            if(found == k && distance >= distances[k - 1])
+                                continue;
+                            int index = found == k ? k - 1 : found++;
+                            for (; index > 0 && distances[index - 1] > distance; index--) {
+                                nearest[index] = nearest[index - 1];
+                                distances[index] = distances[index - 1];
+                            }
+                            nearest[index] = chunk.entities[i];
+                            distances[index] = distance;
+                        }
+                    }
+            }
+            return new ArrayList<>(Arrays.asList(nearest).subList(0, found));
+        }
+
+        /**
+         *
+         * @param coordinate a given block coordinate
+         * @return the chunk coordinate of the given coordinate
+         */
+        private static int chunk(double coordinate){
+            return ((int) Math.floor(coordinate)) >> 4;
+        }
+    }
+
+    /**
+     * The entities of a chunk and their bounding boxes, as they were when first queried in a tick
+     */
+    private static final class ChunkSnapshot{
+
+        private final Entity[] entities;
+
+        /**
+         * the min x, y, z and max x, y, z of every entity's bounding box
+         */
+        private final double[] boxes;
+
+        private ChunkSnapshot(Chunk chunk) {
+            this.entities = chunk.getEntities();
+            this.boxes = new double[entities.length * 6];
+            for (int i = 0; i < entities.length; i++) {
+                BoundingBox box = entities[i].getBoundingBox();
+                boxes[i * 6] = box.getMinX();
+                boxes[i * 6 + 1] = box.getMinY();
+                boxes[i * 6 + 2] = box.getMinZ();
+                boxes[i * 6 + 3] = box.getMaxX();
+                boxes[i * 6 + 4] = box.getMaxY();
+                boxes[i * 6 + 5] = box.getMaxZ();
+            }
+        }
+
+        /**
+         *
+         * @return if the bounding box of the entity at the given index overlaps the given box, the same way the server checks it
+         */
+        private boolean overlaps(int index, BoundingBox box){
+            int i = index * 6;
+            return boxes[i] < box.getMaxX() && boxes[i + 3] > box.getMinX()
+                    && boxes[i + 1] < box.getMaxY() && boxes[i + 4] > box.getMinY()
+                    && boxes[i + 2] < box.getMaxZ() && boxes[i + 5] > box.getMinZ();
+        }
+
+        /**
+         *
+         * @return if the entity at the given index is still valid, is not the excluded entity and is of the given type
+         */
+        private boolean matches(int index, Entity exclude, EntityType type){
+            Entity entity = entities[index];
+            return entity != exclude && (type == null || entity.getType() == type) && entity.isValid();
+        }
+
+        /**
+         *
+         * @return the squared distance between the location of the entity at the given index and the given position
+         */
+        private double distanceSquared(int index, double x, double y, double z){
+            int i = index * 6;
+            double dx = (boxes[i] + boxes[i + 3]) / 2 - x, dy = boxes[i + 1] - y, dz = (boxes[i + 2] + boxes[i + 5]) / 2 - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package me.ODINN.MCCustomCreation;
+
+import Nodes.FunctionTree;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * a snapshot of the creations which were changed or removed since the last save.
+ * the changed creations are cloned, so the snapshot can be written while the creations keep being edited
+ */
+public class CreationChanges {
+
+    /**
+     * the cloned event trees of the changed creations by their name
+     */
+    private final Map<String, List<FunctionTree>> changed;
+
+    /**
+     * the names of the removed creations
+     */
+    private final Set<String> removed;
+
+    /**
+     *
+     * @param changed the cloned event trees of the changed creations by their name
+     * @param removed the names of the removed creations
+     */
+    public CreationChanges(Map<String, List<FunctionTree>> changed, Set<String> removed) {
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    public Map<String, List<FunctionTree>> getChanged() {
+        return changed;
+    }
+
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     *
+     * @return the amount of changed and removed creations
+     */
+    public int size(){
+        return changed.size() + removed.size();
+    }
+
+    /**
+     *
+     * @return if there are no changes
+     */
+    public boolean isEmpty(){
+        return changed.isEmpty() && removed.isEmpty();
+    }
+}
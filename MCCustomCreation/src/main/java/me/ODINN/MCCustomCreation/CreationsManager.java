@@ -1,15 +1,20 @@
 package me.ODINN.MCCustomCreation;
 
+import Nodes.Events.EventInstance;
 import Nodes.Events.IEvent;
+import Nodes.Execution.CompiledFunction;
+import Nodes.Execution.DispatchEntry;
+import Nodes.Execution.DispatchIndex;
+import Nodes.Execution.FunctionCompiler;
 import Nodes.FunctionTree;
+import Utility.ConfigUtil.NodeSavingManagers.CreationsLoader;
 import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
 import Utility.Logging.Logging;
 import Utility.Logging.LoggingOptions;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * manages creations
@@ -17,21 +22,89 @@ import java.util.stream.Collectors;
 public class CreationsManager {
 
     /**
-     * creations registry map
+     * creations registry map, holds only the loaded creations in lazy mode ordered from the least recently used
      */
     private Map<String, Map<IEvent, List<FunctionTree>>> creations;
 
+    /**
+     * the names of all the creations, including the creations which are not loaded
+     */
+    private Set<String> names;
+
+    /**
+     * if creations are loaded only once they are used
+     */
+    private final boolean lazy;
+
+    /**
+     * the maximum amount of loaded creations in lazy mode, the least recently used creations beyond it are unloaded
+     */
+    private final int maxLoaded;
+
+    /**
+     * the amount of editors of each creation which is being edited, creations being edited are not unloaded
+     */
+    private final Map<String, Integer> pins;
+
+    /**
+     * the dispatch index of the valid creations, replaced as a whole on every change
+     */
+    private volatile DispatchIndex dispatchIndex;
+
     /**
      * the manager's file manager
      */
     private INodeFileManager fileManager;
 
+    /**
+     * the names of the creations which were set or edited since the last save
+     */
+    private final Set<String> dirty;
+
+    /**
+     * the names of the creations which were removed since the last save
+     */
+    private final Set<String> removed;
+
+    /**
+     * the time in milliseconds a creation which failed to load is not loaded again
+     */
+    private static final long LOAD_RETRY_DELAY = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * the time every creation which failed to load may be loaded again at, by the creation's name
+     */
+    private final Map<String, Long> failedLoads;
+
+    /**
+     * notified whenever a creation is set, edited or removed
+     */
+    private Runnable changeListener;
+
     /**
      *
      * @param fileManager the manager's file manager
      */
     public CreationsManager(INodeFileManager fileManager){
-        creations = new HashMap<>();
+        this(fileManager,false,0);
+    }
+
+    /**
+     *
+     * @param fileManager the manager's file manager
+     * @param lazy if creations should be loaded only once they are used
+     * @param maxLoaded the maximum amount of loaded creations in lazy mode
+     */
+    public CreationsManager(INodeFileManager fileManager, boolean lazy, int maxLoaded){
+        this.lazy = lazy;
+        this.maxLoaded = Math.max(1,maxLoaded);
+        creations = lazy ? new LinkedHashMap<>(16,0.75f,true) : new HashMap<>();
+        names = new HashSet<>();
+        dispatchIndex = DispatchIndex.EMPTY;
+        dirty = new LinkedHashSet<>();
+        removed = new LinkedHashSet<>();
+        pins = new HashMap<>();
+        failedLoads = new HashMap<>();
         this.fileManager = fileManager;
         init();
     }
@@ -44,19 +117,127 @@ public class CreationsManager {
             Logging.log("File manager is null, so could not initialize the CreationsManager.", LoggingOptions.ERROR);
             return;
         }
-        Map<String, Map<IEvent, List<FunctionTree>>> retrieved = fileManager.retrieveAllCreations();
-        if(retrieved != null)
-            creations = new HashMap<>(retrieved);
-        else creations = new HashMap<>();
+        if(lazy) {
+            names = new HashSet<>(fileManager.getCreationNames());
+            Logging.log("Indexed "+names.size()+" creations, each creation is loaded once it is used.",LoggingOptions.INFO);
+            return;
+        }
+        Map<String, Map<IEvent, List<FunctionTree>>> loaded = CreationsLoader.INSTANCE.load(fileManager).getCreations();
+
+        // the registry and its index are assembled aside and published together once complete
+        Map<String, Map<String, DispatchEntry>> entries = new HashMap<>();
+        for (String name : loaded.keySet()) {
+            Map<String, DispatchEntry> creationEntries = compileCreation(name,loaded.get(name));
+            if(creationEntries != null)
+                entries.put(name,creationEntries);
+        }
+        creations = loaded;
+        names = new HashSet<>(loaded.keySet());
+        dispatchIndex = DispatchIndex.of(entries);
     }
 
     /**
      *
      * @param name a given name
-     * @return a creation with the given name
+     * @return a creation with the given name, loaded if it is not loaded yet
      */
     public Map<IEvent,List<FunctionTree>> getCreation(String name){
-        return creations.get(name);
+        Map<IEvent,List<FunctionTree>> creation = creations.get(name);
+        if(creation == null && lazy && names.contains(name))
+            creation = load(name);
+        return creation;
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @param eventKey a given event key
+     * @return the dispatch entry of the given creation's event, the creation is loaded if it is not loaded yet.
+     * null if the creation does not listen to the event
+     */
+    public DispatchEntry getDispatchEntry(String creation, String eventKey){
+        if(lazy && creations.get(creation) == null && names.contains(creation)) // the get marks the creation as used
+            load(creation);
+        return dispatchIndex.get(creation,eventKey);
+    }
+
+    /**
+     * a deferred execution of a dispatch entry is only continued while its entry is current, so removed or changed creations
+     * do not keep executing their former functions. the creation is not loaded by the check
+     * @param creation a given creation name
+     * @param eventKey a given event key
+     * @param entry a given dispatch entry of the creation's event
+     * @return if the given entry is still the creation's entry of the event, or the creation is unchanged but unloaded
+     */
+    public boolean isCurrentEntry(String creation, String eventKey, DispatchEntry entry){
+        DispatchEntry current = dispatchIndex.get(creation,eventKey);
+        if(current != null)
+            return current == entry;
+        return lazy && names.contains(creation) && !creations.containsKey(creation);
+    }
+
+    /**
+     * loads and compiles the creation with the given name, then unloads the least recently used creations beyond the limit.
+     * a creation which failed to load keeps its name, so it is not replaced by a new creation, and is not loaded again for a while
+     * @param name a given name
+     * @return the loaded creation, null if it could not be loaded
+     */
+    private Map<IEvent,List<FunctionTree>> load(String name){
+        long now = System.currentTimeMillis();
+        Long retry = failedLoads.get(name);
+        if(retry != null && now < retry)
+            return null;
+
+        List<FunctionTree> trees = fileManager.retrieveCreation(name);
+        if(trees == null) {
+            Logging.log("Could not load the creation "+name+", retrying in "+TimeUnit.MILLISECONDS.toSeconds(LOAD_RETRY_DELAY)+" seconds.",LoggingOptions.ERROR);
+            failedLoads.put(name,now + LOAD_RETRY_DELAY);
+            return null;
+        }
+        failedLoads.remove(name);
+        Map<IEvent,List<FunctionTree>> creation = INodeFileManager.fromEventTrees(trees);
+        creations.put(name,creation);
+        rebuildCreation(name);
+        unloadLeastUsed(name);
+        return creation;
+    }
+
+    /**
+     * unloads the least recently used creations until the amount of loaded creations is within the limit.
+     * creations which are being edited or were not saved yet are kept
+     * @param keep a creation which should be kept
+     */
+    private void unloadLeastUsed(String keep){
+        if(!lazy || creations.size() <= maxLoaded)
+            return;
+
+        List<String> unloaded = new ArrayList<>();
+        Iterator<String> iterator = creations.keySet().iterator();
+        while (creations.size() > maxLoaded && iterator.hasNext()) {
+            String name = iterator.next();
+            if(name.equals(keep) || dirty.contains(name) || pins.containsKey(name))
+                continue;
+            iterator.remove();
+            unloaded.add(name);
+        }
+        if(!unloaded.isEmpty())
+            dispatchIndex = dispatchIndex.without(unloaded);
+    }
+
+    /**
+     * marks the creation with the given name as being edited, so it is kept loaded until {@link #unpin(String)}
+     * @param name a given name
+     */
+    public void pin(String name){
+        pins.merge(name,1,Integer::sum);
+    }
+
+    /**
+     * marks the end of an edit of the creation with the given name
+     * @param name a given name
+     */
+    public void unpin(String name){
+        pins.computeIfPresent(name,(key,count) -> count <= 1 ? null : count - 1);
     }
 
     /**
@@ -65,7 +246,14 @@ public class CreationsManager {
      * @return the removed creation with the given name
      */
     public Map<IEvent,List<FunctionTree>> removeCreation(String name){
-        return creations.remove(name);
+        dispatchIndex = dispatchIndex.without(name);
+        Map<IEvent,List<FunctionTree>> creation = creations.remove(name);
+        if(names.remove(name)) {
+            dirty.remove(name);
+            removed.add(name);
+            onChange();
+        }
+        return creation;
     }
 
     /**
@@ -75,6 +263,141 @@ public class CreationsManager {
      */
     public void setCreation(String name,Map<IEvent,List<FunctionTree>> creation){
         creations.put(name,creation);
+        names.add(name);
+        removed.remove(name);
+        dirty.add(name);
+        rebuildCreation(name);
+        unloadLeastUsed(name);
+        onChange();
+    }
+
+    /**
+     * handles an edit of the creation with the given name, the creation's trees were modified in place
+     * @param name a given name
+     */
+    public void onCreationEdited(String name){
+        if(!creations.containsKey(name))
+            return;
+        dirty.add(name);
+        rebuildCreation(name);
+        onChange();
+    }
+
+    /**
+     * saves the creations which were set, edited or removed since the last save, other creations are not written
+     * @return if the changes were saved
+     */
+    public boolean saveChanges(){
+        if(fileManager == null)
+            return true;
+        CreationChanges changes = takeChanges();
+        if(changes.isEmpty())
+            return true;
+
+        if(!fileManager.saveCreations(changes.getChanged(),changes.getRemoved())) {
+            Logging.log("Could not save all the changed creations, they will be saved again on the next save.",LoggingOptions.ERROR);
+            restoreChanges(changes);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * takes a snapshot of the creations changed since the last save and clears them,
+     * the changed creations are cloned so the snapshot can be written away from the main thread
+     * @return the changes since the last save
+     */
+    public CreationChanges takeChanges(){
+        Map<String, List<FunctionTree>> changed = new LinkedHashMap<>();
+        for (String name : dirty) {
+            List<FunctionTree> trees = new ArrayList<>();
+            for (FunctionTree tree : INodeFileManager.toEventTrees(creations.get(name)))
+                trees.add(tree.clone());
+            changed.put(name,trees);
+        }
+        CreationChanges changes = new CreationChanges(changed,new LinkedHashSet<>(removed));
+        dirty.clear();
+        removed.clear();
+        return changes;
+    }
+
+    /**
+     * marks the changes of a snapshot which could not be saved as not saved again,
+     * changes which were overridden since the snapshot was taken are kept as they are
+     * @param changes the changes of a failed save
+     */
+    public void restoreChanges(CreationChanges changes){
+        for (Map.Entry<String, List<FunctionTree>> entry : changes.getChanged().entrySet()) {
+            String name = entry.getKey();
+            if(!names.contains(name))
+                continue;
+            if(!creations.containsKey(name)) { // unloaded since the snapshot, the snapshot is its latest state
+                creations.put(name,INodeFileManager.fromEventTrees(entry.getValue()));
+                rebuildCreation(name);
+            }
+            dirty.add(name);
+        }
+        for (String name : changes.getRemoved())
+            if(!names.contains(name))
+                removed.add(name);
+        onChange();
+    }
+
+    /**
+     * sets the listener which is notified whenever a creation is set, edited or removed
+     * @param changeListener a given listener, null for none
+     */
+    public void setChangeListener(Runnable changeListener){
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * notifies the change listener of a change
+     */
+    private void onChange(){
+        if(changeListener != null)
+            changeListener.run();
+    }
+
+    /**
+     *
+     * @return if there are creation changes which were not saved yet
+     */
+    public boolean hasChanges(){
+        return !dirty.isEmpty() || !removed.isEmpty();
+    }
+
+    /**
+     * rebuilds the dispatch entries of the creation with the given name and publishes them
+     * @param name a given name
+     */
+    private void rebuildCreation(String name){
+        Map<String, DispatchEntry> entries = compileCreation(name,creations.get(name));
+        dispatchIndex = entries == null ? dispatchIndex.without(name) : dispatchIndex.with(name,entries);
+    }
+
+    /**
+     * compiles all the functions of the creation with the given name
+     * @param name a given name
+     * @param creation the creation's events
+     * @return the dispatch entries of the creation by the event key, null if the creation is not valid
+     */
+    private Map<String, DispatchEntry> compileCreation(String name,Map<IEvent,List<FunctionTree>> creation){
+        if(!isValid(name,creation))
+            return null;
+
+        Map<String, DispatchEntry> entries = new HashMap<>();
+        for (Map.Entry<IEvent, List<FunctionTree>> entry : creation.entrySet()) {
+            if(entry.getKey() == null)
+                continue;
+            List<FunctionTree> trees = entry.getValue();
+            CompiledFunction[] functions = FunctionCompiler.INSTANCE.compile(trees);
+            if(functions == null)
+                return null;
+            boolean cancelled = entry.getKey() instanceof EventInstance && ((EventInstance) entry.getKey()).isCancelled();
+            entries.put(entry.getKey().getKey(),new DispatchEntry(entry.getKey(),cancelled,functions));
+        }
+        return entries;
     }
 
     /**
@@ -85,13 +408,22 @@ public class CreationsManager {
      */
     public List<FunctionTree> getEventFromCreation(String name,IEvent event){
         List<FunctionTree> result = null;
-        for (IEvent iEvent : creations.get(name).keySet())
+        Map<IEvent,List<FunctionTree>> creation = getCreation(name);
+        for (IEvent iEvent : creation.keySet())
             if(iEvent != null && iEvent.compareTo(event) == 0)
-                result = creations.get(name).get(iEvent);
+                result = creation.get(iEvent);
 
             return result;
     }
 
+    /**
+     *
+     * @return the current dispatch index of the valid creations
+     */
+    public DispatchIndex getDispatchIndex(){
+        return dispatchIndex;
+    }
+
     /**
      *
      * @param name a given name
@@ -99,7 +431,7 @@ public class CreationsManager {
      * @return the event of the creation with the given name which is similar to the given event instance
      */
     private IEvent getMapEventByEvent(String name,IEvent other){
-        for (IEvent iEvent : creations.get(name).keySet())
+        for (IEvent iEvent : getCreation(name).keySet())
             if(iEvent != null && iEvent.compareTo(other) == 0)
                 return iEvent;
             return null;
@@ -110,12 +442,12 @@ public class CreationsManager {
      * @return the creation name list
      */
     public List<String> getCreationList(){
-        return creations.keySet().stream().collect(Collectors.toList());
+        return names.stream().collect(Collectors.toList());
     }
 
     /**
      *
-     * @return a new instance of the creations registry map
+     * @return the creations registry map, holds only the loaded creations in lazy mode
      */
     public Map<String, Map<IEvent, List<FunctionTree>>> getCreationsMap(){
         return creations;
@@ -127,10 +459,19 @@ public class CreationsManager {
      * @return if the given creation is valid to execute
      */
     public boolean isValid(String creation){
-        if(getCreation(creation ) == null)
+        return isValid(creation,getCreation(creation));
+    }
+
+    /**
+     *
+     * @param creation a given creation name
+     * @param map the creation's events
+     * @return if the given creation is valid to execute
+     */
+    private boolean isValid(String creation,Map<IEvent,List<FunctionTree>> map){
+        if(map == null)
             return false;
 
-        Map<IEvent,List<FunctionTree>> map = getCreation(creation);
         for (IEvent event : map.keySet()) {
             List<FunctionTree> list = map.get(event);
             for (FunctionTree functionTree : list)
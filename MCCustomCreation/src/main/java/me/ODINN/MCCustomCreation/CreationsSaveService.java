@@ -0,0 +1,250 @@
+package me.ODINN.MCCustomCreation;
+
+import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
+import Utility.Logging.Logging;
+import Utility.Logging.LoggingOptions;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * saves the changed creations in the background.
+ * changes made within the save delay of each other are saved together, the changes are snapshot on the main thread
+ * and written by a single worker thread so writes never overlap and keep their order
+ */
+public class CreationsSaveService {
+
+    /**
+     * the longest time to wait for queued saves when the service is flushed
+     */
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+    /**
+     * the plugin
+     */
+    private final Plugin plugin;
+
+    /**
+     * the saved creations manager
+     */
+    private final CreationsManager creationsManager;
+
+    /**
+     * the file manager the creations are saved with
+     */
+    private final INodeFileManager fileManager;
+
+    /**
+     * the ticks to wait after a change before saving, negative if the autosave is disabled
+     */
+    private final long delay;
+
+    /**
+     * the worker which writes the snapshots
+     */
+    private final ExecutorService worker;
+
+    /**
+     * the changes of saves which failed, restored on the main thread
+     */
+    private final Queue<CreationChanges> failed;
+
+    /**
+     * the scheduled snapshot, null if there is none
+     */
+    private BukkitTask pending;
+
+    /**
+     * the amount of snapshots waiting to be written or being written
+     */
+    private final AtomicInteger queueDepth;
+
+    /**
+     * save metrics, latencies are in nanoseconds
+     */
+    private final AtomicLong saveCount;
+    private final AtomicLong failedCount;
+    private final AtomicLong totalLatency;
+    private final AtomicLong maxLatency;
+    private volatile long lastLatency;
+
+    /**
+     *
+     * @param plugin the plugin
+     * @param creationsManager the saved creations manager
+     * @param fileManager the file manager the creations are saved with
+     * @param delay the ticks to wait after a change before saving, negative to disable the autosave
+     */
+    public CreationsSaveService(Plugin plugin, CreationsManager creationsManager, INodeFileManager fileManager, long delay) {
+        this.plugin = plugin;
+        this.creationsManager = creationsManager;
+        this.fileManager = fileManager;
+        this.delay = delay;
+        this.failed = new ConcurrentLinkedQueue<>();
+        this.queueDepth = new AtomicInteger();
+        this.saveCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.totalLatency = new AtomicLong();
+        this.maxLatency = new AtomicLong();
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MCCustomCreation-Save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * requests a save of the changed creations, the save happens once the delay has passed since the first request
+     * so following requests are saved along with it. must be called from the main thread
+     */
+    public void requestSave(){
+        if(delay < 0 || pending != null || !plugin.isEnabled())
+            return;
+        pending = Bukkit.getScheduler().runTaskLater(plugin, this::snapshot, delay);
+    }
+
+    /**
+     * snapshots the changed creations and queues them to be written
+     */
+    private void snapshot(){
+        pending = null;
+        restoreFailed();
+        CreationChanges changes = creationsManager.takeChanges();
+        if(changes.isEmpty())
+            return;
+
+        queueDepth.incrementAndGet();
+        try {
+            worker.execute(() -> write(changes));
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            creationsManager.restoreChanges(changes);
+        }
+    }
+
+    /**
+     * writes the given changes, runs on the worker
+     * @param changes a given snapshot
+     */
+    private void write(CreationChanges changes){
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = fileManager.saveCreations(changes.getChanged(), changes.getRemoved());
+        } catch (RuntimeException e) {
+            Logging.log("Saving creations failed: " + e, LoggingOptions.ERROR);
+            success = false;
+        }
+        long latency = System.nanoTime() - start;
+        queueDepth.decrementAndGet();
+
+        lastLatency = latency;
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        saveCount.incrementAndGet();
+        if(success)
+            return;
+
+        failedCount.incrementAndGet();
+        Logging.log("Could not save " + changes.size() + " changed creations, they will be saved again on the next save.", LoggingOptions.ERROR);
+        failed.add(changes);
+        if(plugin.isEnabled())
+            Bukkit.getScheduler().runTask(plugin, this::requestSave);
+    }
+
+    /**
+     * marks the changes of the failed saves as not saved again
+     */
+    private void restoreFailed(){
+        CreationChanges changes;
+        while ((changes = failed.poll()) != null)
+            creationsManager.restoreChanges(changes);
+    }
+
+    /**
+     * waits for the queued saves and saves the remaining changes on the calling thread, the service is not usable afterwards.
+     * the remaining changes are not saved if the worker is still writing, so the file is never written by both at once.
+     * must be called from the main thread
+     */
+    public void flush(){
+        if(pending != null) {
+            pending.cancel();
+            pending = null;
+        }
+
+        worker.shutdown();
+        try {
+            if(!worker.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Logging.log("Timed out waiting for the queued creation saves, interrupting them.", LoggingOptions.ERROR);
+                worker.shutdownNow();
+                if(!worker.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    Logging.log("The creation saves are still being written, the remaining changes are not saved.", LoggingOptions.ERROR);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if(!worker.isTerminated()) {
+                Logging.log("Interrupted while waiting for the queued creation saves, the remaining changes are not saved.", LoggingOptions.ERROR);
+                return;
+            }
+        }
+
+        restoreFailed();
+        creationsManager.saveChanges();
+    }
+
+    /**
+     *
+     * @return the amount of snapshots waiting to be written or being written
+     */
+    public int getQueueDepth(){
+        return queueDepth.get();
+    }
+
+    /**
+     *
+     * @return the amount of written snapshots
+     */
+    public long getSaveCount(){
+        return saveCount.get();
+    }
+
+    /**
+     *
+     * @return the amount of snapshots which failed to be written
+     */
+    public long getFailedCount(){
+        return failedCount.get();
+    }
+
+    /**
+     *
+     * @return the latency of the last write in milliseconds
+     */
+    public double getLastLatency(){
+        return lastLatency / 1_000_000.0;
+    }
+
+    /**
+     *
+     * @return the average latency of the writes in milliseconds
+     */
+    public double getAverageLatency(){
+        long count = saveCount.get();
+        return count == 0 ? 0 : totalLatency.get() / (double) count / 1_000_000.0;
+    }
+
+    /**
+     *
+     * @return the maximum latency of the writes in milliseconds
+     */
+    public double getMaxLatency(){
+        return maxLatency.get() / 1_000_000.0;
+    }
+}
@@ -1,7 +1,16 @@
 package me.ODINN.MCCustomCreation;
 
 import Utility.PDCUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * utility for creations
@@ -9,9 +18,34 @@ import org.bukkit.inventory.ItemStack;
 public class CreationsUtil {
 
     /**
-     * Singleton implementation
+     * The key of the creation stored by older versions, serialized through StoredData.
+     * items holding it are still read, and the items of players' inventories are migrated to the creation id key,
+     * see {@link #migrate(Inventory)}
      */
     public static final String CREATIONS_PDC_KEY = "Creation";
+
+    /**
+     * The key of the creation's name, stored as a native string
+     */
+    public static final String CREATION_ID_PDC_KEY = "CreationId";
+
+    /**
+     * The cached value of items which are not creations
+     */
+    private static final String NOT_A_CREATION = "";
+
+    /**
+     * The creations of recently read items, items are compared by identity and are not kept alive by the cache
+     */
+    private static final Cache<ItemStack, String> CREATIONS_CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(512)
+            .expireAfterWrite(1, TimeUnit.SECONDS)
+            .build();
+
+    /**
+     * Singleton implementation
+     */
     public static final CreationsUtil INSTANCE = new CreationsUtil();
     private CreationsUtil(){}
 
@@ -21,16 +55,74 @@ public class CreationsUtil {
      * @return if the item has a creation in it
      */
     public static boolean isCreation(ItemStack item){
-        return PDCUtil.has(item,CREATIONS_PDC_KEY);
+        return getCreationFromItem(item) != null;
     }
 
     /**
      *
      * @param item a given item
-     * @return the item's creation
+     * @return the item's creation, null if the item is not a creation
      */
     public static String getCreationFromItem(ItemStack item){
-        return PDCUtil.get(item,CREATIONS_PDC_KEY);
+        if(item == null || !item.hasItemMeta()) // items without meta cannot hold a creation, so the meta is not copied
+            return null;
+
+        String creation = CREATIONS_CACHE.getIfPresent(item);
+        if(creation == null) {
+            creation = readCreation(item);
+            CREATIONS_CACHE.put(item, creation == null ? NOT_A_CREATION : creation);
+        }
+        return creation == null || creation.equals(NOT_A_CREATION) ? null : creation;
+    }
+
+    /**
+     * reads the creation of the given item, from the older key if stored by an older version.
+     * the item is not changed, as it is often a copy of the real one, items are migrated where their slot is known
+     * @param item a given item with meta
+     * @return the item's creation, null if the item is not a creation
+     */
+    private static String readCreation(ItemStack item){
+        PersistentDataContainer container = item.getItemMeta().getPersistentDataContainer();
+        String creation = PDCUtil.get(container, CREATION_ID_PDC_KEY, PersistentDataType.STRING);
+        if(creation != null || !PDCUtil.has(container, CREATIONS_PDC_KEY))
+            return creation;
+        return PDCUtil.get(container, CREATIONS_PDC_KEY);
+    }
+
+    /**
+     * migrates the items of the given inventory which hold the creation under the older key to the creation id key,
+     * the items are written back to their slots so the migration is kept
+     * @param inventory a given inventory
+     * @return the amount of migrated items
+     */
+    public static int migrate(Inventory inventory){
+        int migrated = 0;
+        for (int slot = 0; slot < inventory.getSize(); slot++)
+            if(migrate(inventory, slot))
+                migrated++;
+        return migrated;
+    }
+
+    /**
+     * migrates the item in the given slot of the given inventory if it holds the creation under the older key
+     * @param inventory a given inventory
+     * @param slot a given slot of the inventory
+     * @return if the item was migrated
+     */
+    public static boolean migrate(Inventory inventory, int slot){
+        ItemStack item = inventory.getItem(slot);
+        if(item == null || !item.hasItemMeta())
+            return false;
+        PersistentDataContainer container = item.getItemMeta().getPersistentDataContainer();
+        if(!PDCUtil.has(container, CREATIONS_PDC_KEY) || PDCUtil.get(container, CREATION_ID_PDC_KEY, PersistentDataType.STRING) != null)
+            return false;
+
+        String creation = PDCUtil.get(container, CREATIONS_PDC_KEY);
+        if(creation == null)
+            return false;
+        setCreationIntoItem(item, creation); // also removes the older key
+        inventory.setItem(slot, item);
+        return true;
     }
 
     /**
@@ -39,7 +131,13 @@ public class CreationsUtil {
      * @param creation a given creation name
      */
     public static void setCreationIntoItem(ItemStack item,String creation){
-        PDCUtil.set(item,CREATIONS_PDC_KEY,creation);
+        if(item == null || item.getType().equals(Material.AIR))
+            return;
+        ItemMeta meta = item.getItemMeta();
+        PDCUtil.remove(meta.getPersistentDataContainer(), CREATIONS_PDC_KEY);
+        PDCUtil.set(meta.getPersistentDataContainer(), CREATION_ID_PDC_KEY, PersistentDataType.STRING, creation);
+        item.setItemMeta(meta);
+        CREATIONS_CACHE.invalidate(item);
     }
 
     /**
@@ -47,7 +145,13 @@ public class CreationsUtil {
      * @param item a given item
      */
     public static void removeCreationFromItem(ItemStack item){
-        PDCUtil.remove(item,CREATIONS_PDC_KEY);
+        if(item == null || item.getType().equals(Material.AIR))
+            return;
+        ItemMeta meta = item.getItemMeta();
+        PDCUtil.remove(meta.getPersistentDataContainer(), CREATIONS_PDC_KEY);
+        PDCUtil.remove(meta.getPersistentDataContainer(), CREATION_ID_PDC_KEY);
+        item.setItemMeta(meta);
+        CREATIONS_CACHE.invalidate(item);
     }
 
 }
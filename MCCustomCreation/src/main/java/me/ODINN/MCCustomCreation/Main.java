@@ -3,6 +3,10 @@ package me.ODINN.MCCustomCreation;
 import Commands.*;
 import Nodes.Actions.DefaultActions;
 import Nodes.Events.DefaultEvents;
+import Nodes.Events.DefaultEventsListener;
+import Nodes.Execution.ExecutionScheduler;
+import Nodes.Execution.Profiling.ExecutionProfiler;
+import Nodes.Execution.ResultCache;
 import Nodes.NodeEnum;
 import Nodes.NodesHandler;
 import Nodes.Parameters.DefaultParameters;
@@ -13,16 +17,23 @@ import Nodes.Primitives.TruePrimitives.*;
 import Utility.ConfigUtil.ConfigHandler;
 import Utility.ConfigUtil.NodeSavingManagers.FileManagersSelection;
 import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
+import Utility.SpatialCache;
 import com.comphenix.protocol.ProtocolLibrary;
 import com.comphenix.protocol.ProtocolManager;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
 import java.util.List;
 
 public class Main extends JavaPlugin {
 
+    /**
+     * the file the profile report is written to
+     */
+    public static final String PROFILE_FILE = "profile.txt";
+
     /**
      * the plugin's instance
      */
@@ -38,6 +49,11 @@ public class Main extends JavaPlugin {
      */
     private static CreationsManager CreationsManager;
 
+    /**
+     * the plugin's creations save service
+     */
+    private static CreationsSaveService SaveService;
+
     /**
      * the plugin's protocols manager
      */
@@ -51,11 +67,17 @@ public class Main extends JavaPlugin {
         initConfigManagers();
         registerCommands();
         initProtocols();
+        initProfiler();
+        initScheduler();
+        initResultCache();
     }
 
     @Override
     public void onDisable() {
-        FileManager.saveAllCreations(CreationsManager.getCreationsMap());
+        ExecutionScheduler.INSTANCE.stop();
+        SpatialCache.INSTANCE.clear();
+        ResultCache.INSTANCE.clear();
+        SaveService.flush();
 
     }
 
@@ -66,6 +88,39 @@ public class Main extends JavaPlugin {
         this.ProtocolsManager = ProtocolLibrary.getProtocolManager();
     }
 
+    /**
+     * initializes the execution profiler and its periodic profile file
+     */
+    private void initProfiler(){
+        ExecutionProfiler.INSTANCE.setEnabled((boolean) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.Profiling));
+        long interval = ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.ProfileDumpInterval)).longValue() * 20;
+        if(interval <= 0)
+            return;
+        File file = new File(getDataFolder(), PROFILE_FILE);
+        getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
+            if(ExecutionProfiler.INSTANCE.isEnabled())
+                ExecutionProfiler.INSTANCE.dump(file);
+        }, interval, interval);
+    }
+
+    /**
+     * initializes the execution scheduler's tick budget
+     */
+    private void initScheduler(){
+        ExecutionScheduler.INSTANCE.start(this,
+                ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.TickBudget)).doubleValue(),
+                ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.MaxDeferredExecutions)).intValue());
+    }
+
+    /**
+     * initializes the parameter result cache's time to live and size
+     */
+    private void initResultCache(){
+        ResultCache.INSTANCE.configure(
+                ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.ParameterCacheTTL)).doubleValue(),
+                ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.ParameterCacheSize)).intValue());
+    }
+
     /**
      * initializes the config managers
      */
@@ -75,7 +130,12 @@ public class Main extends JavaPlugin {
                         getSetting(ConfigHandler.Settings.FileManagerType)
         );
 
-        this.CreationsManager = new CreationsManager(FileManager);
+        this.CreationsManager = new CreationsManager(FileManager,
+                (boolean) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.LazyLoading),
+                ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.MaxLoadedCreations)).intValue());
+        this.SaveService = new CreationsSaveService(this,CreationsManager,FileManager,
+                ((Number) ConfigHandler.INSTANCE.getSetting(ConfigHandler.Settings.AutoSaveDelay)).longValue());
+        CreationsManager.setChangeListener(SaveService::requestSave);
     }
 
     /**
@@ -83,6 +143,7 @@ public class Main extends JavaPlugin {
      */
     private void registerDefaults(){
         NodeEnum.registerDefaults(DefaultEvents.class);
+        getServer().getPluginManager().registerEvents(DefaultEventsListener.INSTANCE,this);
         NodeEnum.registerDefaults(DefaultActions.class);
         NodeEnum.registerDefaults(DefaultParameters.class);
         NodeEnum.registerDefaults(DefaultPrimitives.class);
@@ -107,7 +168,8 @@ public class Main extends JavaPlugin {
                 new CMD_Create(),
                 new CMD_Help(),
                 new CMD_Remove(),
-                new CMD_Duplicate()
+                new CMD_Duplicate(),
+                new CMD_Profile()
         );
     }
 
@@ -130,6 +192,14 @@ public class Main extends JavaPlugin {
         return CreationsManager;
     }
 
+    /**
+     *
+     * @return the plugin's creations save service
+     */
+    public static CreationsSaveService getSaveService() {
+        return SaveService;
+    }
+
     /**
      *
      * @return the plugin's instance
@@ -0,0 +1,30 @@
+package Benchmarks.Execution;
+
+import Nodes.Parameters.DefaultParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures the arguments validation every parameter and action runs before it is executed
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckParametersBenchmark {
+
+    private Object[] arguments;
+
+    @Setup
+    public void setup(){
+        arguments = new Object[]{1.0, 2.0};
+    }
+
+    @Benchmark
+    public boolean checkParameters(){
+        return DefaultParameters.ADD_DOUBLE.checkParameters(arguments);
+    }
+}
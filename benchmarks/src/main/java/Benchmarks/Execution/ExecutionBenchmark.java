@@ -0,0 +1,107 @@
+package Benchmarks.Execution;
+
+import Benchmarks.Stubs.SinkAction;
+import Benchmarks.Stubs.Stubs;
+import Nodes.Execution.CompiledFunction;
+import Nodes.Execution.DispatchEntry;
+import Nodes.Execution.DispatchIndex;
+import Nodes.FunctionTree;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures a single event dispatch of a synthetic creation, each invocation executes all the actions of the event once
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionBenchmark {
+
+    /**
+     * the depth of each action's math tree
+     */
+    @Param({"1", "4", "8"})
+    public int depth;
+
+    /**
+     * the amount of actions of the event
+     */
+    @Param({"1", "8", "32"})
+    public int fanOut;
+
+    /**
+     * the amount of creations in the dispatch index
+     */
+    @Param({"1", "1000"})
+    public int creations;
+
+    private SinkAction sink;
+    private List<FunctionTree> trees;
+    private CompiledFunction[] functions;
+    private DispatchIndex index;
+    private String creation;
+    private String eventKey;
+    private LivingEntity executor;
+    private ItemStack item;
+
+    @Setup
+    public void setup(){
+        sink = new SinkAction(Double.class);
+        trees = SyntheticCreations.actionTrees(sink, fanOut, depth);
+        DispatchEntry entry = SyntheticCreations.dispatchEntry("benchmark", trees);
+        functions = entry.getFunctions();
+
+        Map<String, Map<String, DispatchEntry>> entries = new HashMap<>();
+        eventKey = SyntheticCreations.EVENT.getKey();
+        for (int i = 0; i < creations; i++) {
+            Map<String, DispatchEntry> events = new HashMap<>();
+            events.put(eventKey, entry);
+            entries.put("creation-" + i, events);
+        }
+        index = DispatchIndex.of(entries);
+        creation = "creation-" + (creations / 2);
+
+        executor = Stubs.livingEntity();
+        item = Stubs.item();
+    }
+
+    /**
+     * executes the action trees through the recursive tree walk
+     */
+    @Benchmark
+    public Object interpreted(){
+        for (FunctionTree tree : trees)
+            FunctionTree.executeFunction(tree, executor, item);
+        return sink.getLast();
+    }
+
+    /**
+     * executes the compiled functions of the action trees
+     */
+    @Benchmark
+    public Object compiled(){
+        for (CompiledFunction function : functions)
+            function.execute(executor, item);
+        return sink.getLast();
+    }
+
+    /**
+     * looks the creation's event up and executes its entry, the way an event is dispatched to a creation
+     */
+    @Benchmark
+    public Object dispatch(){
+        DispatchEntry entry = index.get(creation, eventKey);
+        if(entry != null)
+            entry.execute(executor, item);
+        return sink.getLast();
+    }
+}
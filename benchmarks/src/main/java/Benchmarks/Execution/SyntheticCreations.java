@@ -0,0 +1,124 @@
+package Benchmarks.Execution;
+
+import Benchmarks.Stubs.SinkAction;
+import Nodes.Events.DefaultEvents;
+import Nodes.Events.EventInstance;
+import Nodes.Events.IEvent;
+import Nodes.Execution.CompiledFunction;
+import Nodes.Execution.DispatchEntry;
+import Nodes.Execution.FunctionCompiler;
+import Nodes.FunctionTree;
+import Nodes.IParameter;
+import Nodes.NodesHandler;
+import Nodes.Parameters.DefaultParameters;
+import Nodes.Primitives.TruePrimitives.TPri_Double;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * builds synthetic creations out of double math parameters and raw doubles
+ */
+public class SyntheticCreations {
+
+    /**
+     * the event the synthetic creations listen to
+     */
+    public static final IEvent EVENT = DefaultEvents.DAMAGE_ENTITY;
+
+    private SyntheticCreations(){}
+
+    /**
+     * registers the nodes the synthetic creations are made of, so they can be deserialized by their key
+     * @param sink the actions' action
+     */
+    public static void registerNodes(SinkAction sink){
+        NodesHandler.INSTANCE.register(DefaultEvents.values());
+        NodesHandler.INSTANCE.register(DefaultParameters.values());
+        NodesHandler.INSTANCE.register(new TPri_Double(), sink);
+    }
+
+    /**
+     * builds an action whose value is a full binary tree of math parameters, alternating addition and multiplication
+     * @param sink the action
+     * @param depth the depth of the math tree, a depth of 0 is a single raw double
+     * @return the action's tree
+     */
+    public static FunctionTree actionTree(SinkAction sink, int depth){
+        FunctionTree root = new FunctionTree(sink, null, null);
+        root.setNext(new FunctionTree[]{mathTree(root, depth)});
+        return root;
+    }
+
+    /**
+     *
+     * @param prev the previous tree
+     * @param depth the depth of the math tree
+     * @return a full binary tree of math parameters with raw doubles as the leaves
+     */
+    private static FunctionTree mathTree(FunctionTree prev, int depth){
+        if(depth == 0) {
+            TPri_Double value = new TPri_Double();
+            value.setValue(1.0);
+            return new FunctionTree(value, null, prev);
+        }
+
+        IParameter op = depth % 2 == 0 ? DefaultParameters.ADD_DOUBLE : DefaultParameters.MULTIPLY_DOUBLE;
+        FunctionTree tree = new FunctionTree(op, null, prev);
+        tree.setNext(new FunctionTree[]{mathTree(tree, depth - 1), mathTree(tree, depth - 1)});
+        return tree;
+    }
+
+    /**
+     *
+     * @param sink the actions' action
+     * @param fanOut the amount of actions
+     * @param depth the depth of each action's math tree
+     * @return the action trees of an event
+     */
+    public static List<FunctionTree> actionTrees(SinkAction sink, int fanOut, int depth){
+        List<FunctionTree> trees = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++)
+            trees.add(actionTree(sink, depth));
+        return trees;
+    }
+
+    /**
+     * builds the action trees of an event with about the given amount of nodes, the actions are at most 16 nodes each
+     * @param sink the actions' action
+     * @param nodes the amount of nodes
+     * @return the action trees of an event
+     */
+    public static List<FunctionTree> actionTreesOfSize(SinkAction sink, int nodes){
+        int depth = Math.max(0, Math.min(3, 30 - Integer.numberOfLeadingZeros(Math.max(1, nodes))));
+        int perAction = 1 << (depth + 1); // the action and a full math tree
+        return actionTrees(sink, Math.max(1, nodes / perAction), depth);
+    }
+
+    /**
+     *
+     * @param creation the creation's name
+     * @param trees the action trees of the creation's event
+     * @return the creation, listening to {@link #EVENT}
+     */
+    public static Map<IEvent, List<FunctionTree>> creation(String creation, List<FunctionTree> trees){
+        Map<IEvent, List<FunctionTree>> map = new HashMap<>();
+        map.put(new EventInstance(EVENT, false, creation), trees);
+        return map;
+    }
+
+    /**
+     * compiles the given action trees into a dispatch entry of {@link #EVENT}
+     * @param creation the creation's name
+     * @param trees the action trees
+     * @return the dispatch entry of the trees
+     */
+    public static DispatchEntry dispatchEntry(String creation, List<FunctionTree> trees){
+        CompiledFunction[] functions = FunctionCompiler.INSTANCE.compile(trees);
+        if(functions == null)
+            throw new IllegalStateException("Could not compile a synthetic tree of " + creation);
+        return new DispatchEntry(new EventInstance(EVENT, false, creation), false, functions);
+    }
+}
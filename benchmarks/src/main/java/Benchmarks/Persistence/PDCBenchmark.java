@@ -0,0 +1,71 @@
+package Benchmarks.Persistence;
+
+import Benchmarks.Stubs.Stubs;
+import Utility.PDCUtil;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures reading and writing a persistent data container value through PDCUtil,
+ * with a native string type and with the serialized stored data type
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PDCBenchmark {
+
+    /**
+     * the plugin's namespace
+     */
+    private static final String NAMESPACE = "mccustomcreation";
+
+    private static final String STRING_KEY = "benchmark_string";
+    private static final String STORED_KEY = "benchmark_stored";
+
+    private PersistentDataContainer container;
+    private String value;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        // the keys are made with the plugin instance, so they are put in the cache beforehand
+        Field field = PDCUtil.class.getDeclaredField("KEYS");
+        field.setAccessible(true);
+        Map<String, NamespacedKey> keys = (Map<String, NamespacedKey>) field.get(null);
+        keys.put(STRING_KEY, new NamespacedKey(NAMESPACE, STRING_KEY));
+        keys.put(STORED_KEY, new NamespacedKey(NAMESPACE, STORED_KEY));
+
+        container = Stubs.persistentDataContainer();
+        value = "benchmark";
+        PDCUtil.set(container, STRING_KEY, PersistentDataType.STRING, value);
+        PDCUtil.set(container, STORED_KEY, value);
+    }
+
+    @Benchmark
+    public void setString(){
+        PDCUtil.set(container, STRING_KEY, PersistentDataType.STRING, value);
+    }
+
+    @Benchmark
+    public String getString(){
+        return PDCUtil.get(container, STRING_KEY, PersistentDataType.STRING);
+    }
+
+    @Benchmark
+    public void setStored(){
+        PDCUtil.set(container, STORED_KEY, value);
+    }
+
+    @Benchmark
+    public String getStored(){
+        return PDCUtil.get(container, STORED_KEY);
+    }
+}
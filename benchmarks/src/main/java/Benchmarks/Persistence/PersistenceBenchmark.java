@@ -0,0 +1,137 @@
+package Benchmarks.Persistence;
+
+import Benchmarks.Execution.SyntheticCreations;
+import Benchmarks.Stubs.SinkAction;
+import Nodes.FunctionTree;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.CreationDecoder;
+import Utility.ConfigUtil.NodeSavingManagers.Binary.CreationEncoder;
+import Utility.ConfigUtil.NodeSavingManagers.INodeFileManager;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures saving and loading a single creation, by the amount of nodes of the creation.
+ * the YAML benchmarks go through the same serialized form and configuration as the YAML file manager, in memory so the disk is not measured
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    /**
+     * the creations key of the YAML file manager
+     */
+    private static final String FATHER_KEY = "CREATIONS";
+
+    /**
+     * the benchmarked creation's name
+     */
+    private static final String CREATION = "benchmark";
+
+    /**
+     * the amount of nodes of the creation
+     */
+    @Param({"10", "1000", "100000"})
+    public int nodes;
+
+    private List<FunctionTree> eventTrees;
+    private List<Map<String, Object>> serialized;
+    private String yaml;
+    private byte[] binary;
+
+    /**
+     * the size of the saved creation in bytes, reported next to each result
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        SinkAction sink = new SinkAction(Double.class);
+        SyntheticCreations.registerNodes(sink);
+        List<FunctionTree> trees = SyntheticCreations.actionTreesOfSize(sink, nodes);
+        eventTrees = INodeFileManager.toEventTrees(SyntheticCreations.creation(CREATION, trees));
+
+        serialized = FunctionTree.serializeAll(eventTrees);
+        yaml = toYAML(serialized);
+        binary = CreationEncoder.encode(eventTrees);
+    }
+
+    /**
+     *
+     * @param serialized a serialized creation
+     * @return the YAML file content of the given creation
+     */
+    private static String toYAML(List<Map<String, Object>> serialized){
+        YamlConfiguration config = new YamlConfiguration();
+        config.set(FATHER_KEY + "." + CREATION, serialized);
+        return config.saveToString();
+    }
+
+    /**
+     * serializes the creation's trees into maps
+     */
+    @Benchmark
+    public List<Map<String, Object>> serialize(){
+        return FunctionTree.serializeAll(eventTrees);
+    }
+
+    /**
+     * deserializes the creation's trees from maps
+     */
+    @Benchmark
+    public List<FunctionTree> deserialize() throws CloneNotSupportedException, ClassNotFoundException {
+        return FunctionTree.deserializeAll(serialized, CREATION);
+    }
+
+    /**
+     * serializes the creation and writes it as YAML
+     */
+    @Benchmark
+    public String saveYAML(Size size){
+        String content = toYAML(FunctionTree.serializeAll(eventTrees));
+        size.bytes = content.getBytes(StandardCharsets.UTF_8).length;
+        return content;
+    }
+
+    /**
+     * parses the YAML of the creation and deserializes it
+     */
+    @Benchmark
+    public List<FunctionTree> loadYAML() throws InvalidConfigurationException, CloneNotSupportedException, ClassNotFoundException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+        return FunctionTree.deserializeAll((List) config.getList(FATHER_KEY + "." + CREATION), CREATION);
+    }
+
+    /**
+     * encodes the creation in the binary format
+     */
+    @Benchmark
+    public byte[] saveBinary(Size size) throws IOException {
+        byte[] body = CreationEncoder.encode(eventTrees);
+        size.bytes = body.length;
+        return body;
+    }
+
+    /**
+     * decodes the creation from the binary format
+     */
+    @Benchmark
+    public List<FunctionTree> loadBinary() throws IOException {
+        return CreationDecoder.decode(binary, CREATION);
+    }
+}
@@ -0,0 +1,82 @@
+package Benchmarks.Persistence;
+
+import Utility.ConfigUtil.Serialization.Serializations;
+import org.bukkit.GameRule;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures serializing and deserializing a single primitive value, for every registered serializer and the default object stream.
+ * structure types are not measured since they are looked up in the server's registry
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationsBenchmark {
+
+    /**
+     * the serialized value's type, VECTOR and STRING have no serializer
+     */
+    @Param({"GAME_RULE", "ENCHANTMENT", "POTION_EFFECT_TYPE", "NAMESPACED_KEY", "VECTOR", "STRING"})
+    public String type;
+
+    private Object value;
+    private Class<?> valueClass;
+    private byte[] serialized;
+
+    @Setup
+    public void setup(){
+        switch (type) {
+            case "GAME_RULE":
+                value = GameRule.KEEP_INVENTORY;
+                valueClass = GameRule.class;
+                break;
+            case "ENCHANTMENT":
+                value = Enchantment.DAMAGE_ALL;
+                valueClass = Enchantment.class;
+                break;
+            case "POTION_EFFECT_TYPE":
+                value = PotionEffectType.SPEED;
+                valueClass = PotionEffectType.class;
+                break;
+            case "NAMESPACED_KEY":
+                value = NamespacedKey.minecraft("stone");
+                valueClass = NamespacedKey.class;
+                break;
+            case "VECTOR":
+                value = new Vector(1, 2, 3);
+                valueClass = Vector.class;
+                break;
+            case "STRING":
+                value = "benchmark";
+                valueClass = String.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+        serialized = Serializations.serialize(value);
+        if(serialized == null)
+            throw new IllegalStateException("Could not serialize " + type);
+    }
+
+    @Benchmark
+    public byte[] serialize(){
+        return Serializations.serialize(value);
+    }
+
+    /**
+     * deserializes the value the way a primitive's value is loaded, with its class
+     */
+    @Benchmark
+    public Object deserialize(){
+        return Serializations.deserialize(serialized, valueClass);
+    }
+}
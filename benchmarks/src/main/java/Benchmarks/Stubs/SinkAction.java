@@ -0,0 +1,63 @@
+package Benchmarks.Stubs;
+
+import Nodes.IAction;
+import Nodes.NodeItemStack;
+
+/**
+ * an action which only keeps the last value it received, so the values computed for it are not optimized away
+ */
+public class SinkAction implements IAction {
+
+    /**
+     * the action's received types
+     */
+    private final Class[] receivedTypes;
+
+    /**
+     * the last received value
+     */
+    private Object last;
+
+    /**
+     *
+     * @param receivedType the type of the single value the action receives
+     */
+    public SinkAction(Class receivedType) {
+        this.receivedTypes = new Class[]{receivedType};
+    }
+
+    @Override
+    public boolean action(Object... params) {
+        last = params[0];
+        return true;
+    }
+
+    public Object getLast() {
+        return last;
+    }
+
+    @Override
+    public Class[] getReceivedTypes() {
+        return receivedTypes;
+    }
+
+    @Override
+    public String[] getReceivedTypesDescriptions() {
+        return new String[]{""};
+    }
+
+    @Override
+    public NodeItemStack getItemReference() {
+        return null;
+    }
+
+    @Override
+    public String getKey() {
+        return "BENCHMARK_SINK";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Keeps the received value.";
+    }
+}
@@ -0,0 +1,103 @@
+package Benchmarks.Stubs;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * lightweight stand-ins for the Bukkit objects the nodes are executed with, no server is needed to create them
+ */
+public class Stubs {
+
+    /**
+     * the default value of each primitive return type
+     */
+    private static final Map<Class<?>, Object> DEFAULTS = new HashMap<>();
+    static {
+        DEFAULTS.put(boolean.class, false);
+        DEFAULTS.put(byte.class, (byte) 0);
+        DEFAULTS.put(short.class, (short) 0);
+        DEFAULTS.put(char.class, (char) 0);
+        DEFAULTS.put(int.class, 0);
+        DEFAULTS.put(long.class, 0L);
+        DEFAULTS.put(float.class, 0f);
+        DEFAULTS.put(double.class, 0d);
+    }
+
+    private Stubs(){}
+
+    /**
+     *
+     * @return a living entity which answers every call with a default value
+     */
+    public static LivingEntity livingEntity(){
+        return (LivingEntity) Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class[]{LivingEntity.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "StubLivingEntity";
+                default:
+                    return DEFAULTS.get(method.getReturnType());
+            }
+        });
+    }
+
+    /**
+     *
+     * @return a persistent data container backed by a map, values are converted to their primitive type like the server does
+     */
+    public static PersistentDataContainer persistentDataContainer(){
+        Map<NamespacedKey, Object> values = new HashMap<>();
+        PersistentDataAdapterContext context = () -> persistentDataContainer();
+        return (PersistentDataContainer) Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class[]{PersistentDataContainer.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "set":
+                    values.put((NamespacedKey) args[0], ((PersistentDataType) args[1]).toPrimitive(args[2], context));
+                    return null;
+                case "get": {
+                    Object value = values.get(args[0]);
+                    return value == null ? null : ((PersistentDataType) args[1]).fromPrimitive(value, context);
+                }
+                case "has":
+                    return values.containsKey(args[0]);
+                case "remove":
+                    values.remove(args[0]);
+                    return null;
+                case "getKeys":
+                    return new HashSet<>(values.keySet());
+                case "isEmpty":
+                    return values.isEmpty();
+                case "getAdapterContext":
+                    return context;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "StubPersistentDataContainer" + values.keySet();
+                default:
+                    return DEFAULTS.get(method.getReturnType());
+            }
+        });
+    }
+
+    /**
+     *
+     * @return a plain item, items of non legacy materials are created without a server
+     */
+    public static ItemStack item(){
+        return new ItemStack(Material.STONE);
+    }
+}